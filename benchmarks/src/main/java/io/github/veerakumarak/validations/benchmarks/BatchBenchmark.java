@@ -0,0 +1,65 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.BatchResult;
+import io.github.veerakumarak.validations.Schema;
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against fork-join batch validation of 100k records, one in a thousand of them invalid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BatchBenchmark {
+
+    public record Reading(String sensor, Integer value) {
+    }
+
+    @Param({"1000", "10000"})
+    public int chunkSize;
+
+    private final Schema<Reading> schema = Schema.forRecord(Reading.class)
+            .field("sensor", StringFieldValidator.nonNull().notEmpty().maxLength(32))
+            .field("value", IntegerFieldValidator.nonNull().between(-1000, 1000))
+            .build();
+
+    private List<Reading> readings;
+
+    @Setup
+    public void setUp() {
+        readings = new ArrayList<>(100_000);
+        for (int i = 0; i < 100_000; i++) {
+            readings.add(new Reading("sensor-" + (i % 64), i % 1000 == 0 ? 5000 : i % 1000));
+        }
+    }
+
+    @Benchmark
+    public BatchResult sequential() {
+        return schema.validateAll(readings);
+    }
+
+    @Benchmark
+    public BatchResult forkJoin() {
+        return schema.validateAll(readings, chunkSize);
+    }
+
+}
@@ -0,0 +1,57 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.ByteBufferFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A 40 byte field inside a direct buffer: decoding it to a String for {@link StringFieldValidator}
+ * against checking the bytes in place with {@link ByteBufferFieldValidator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ByteBufferBenchmark {
+
+    private final IValidation<String> decoded = StringFieldValidator.nonNull().notEmpty().maxLength(64).contains("@");
+    private final IValidation<ByteBuffer> inPlace = ByteBufferFieldValidator.nonNull().notEmpty().ascii().maxBytes(64).contains("@");
+
+    private ByteBuffer field;
+
+    @Setup
+    public void setUp() {
+        byte[] frame = "{\"email\":\"john.doe.with.a.long.name@example.com\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer direct = ByteBuffer.allocateDirect(frame.length);
+        direct.put(frame).flip();
+        field = direct.position(10).limit(frame.length - 2).slice();
+    }
+
+    @Benchmark
+    public FieldResult decodeThenValidate() {
+        return decoded.validate("email", StandardCharsets.UTF_8.decode(field.duplicate()).toString());
+    }
+
+    @Benchmark
+    public FieldResult validateInPlace() {
+        return inPlace.validate("email", field);
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repeated inputs through an expensive rule (an RFC 3339 timestamp regex) and a cheap one ({@code notEmpty}),
+ * plain against {@code cached(1024)}. With few distinct values the cache wins on the regex and loses on the
+ * cheap rule; with more distinct values than entries every call is a miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CachedValidationBenchmark {
+
+    private static final String TIMESTAMP = "\\d{4}-(0[1-9]|1[0-2])-(0[1-9]|[12]\\d|3[01])T([01]\\d|2[0-3]):[0-5]\\d:[0-5]\\d(\\.\\d+)?(Z|[+-]\\d{2}:\\d{2})";
+
+    @Param({"64", "4096"})
+    public int distinctValues;
+
+    private final IValidation<String> regex = StringFieldValidator.nonNull().matchesRegex(TIMESTAMP);
+    private final IValidation<String> cachedRegex = StringFieldValidator.nonNull().matchesRegex(TIMESTAMP).cached(1024);
+    private final IValidation<String> cheap = StringFieldValidator.nonNull().notEmpty();
+    private final IValidation<String> cachedCheap = StringFieldValidator.nonNull().notEmpty().cached(1024);
+
+    private String[] inputs;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        inputs = new String[4096];
+        for (int i = 0; i < inputs.length; i++) {
+            int v = i % distinctValues;
+            inputs[i] = String.format("2024-%02d-%02dT%02d:%02d:00Z", 1 + v % 12, 1 + v % 28, v % 24, (v / 24) % 60);
+        }
+    }
+
+    private String next(Cursor cursor) {
+        return inputs[cursor.next++ & (inputs.length - 1)];
+    }
+
+    @Benchmark
+    public FieldResult regex(Cursor cursor) {
+        return regex.validate("createdAt", next(cursor));
+    }
+
+    @Benchmark
+    public FieldResult cachedRegex(Cursor cursor) {
+        return cachedRegex.validate("createdAt", next(cursor));
+    }
+
+    @Benchmark
+    public FieldResult cheap(Cursor cursor) {
+        return cheap.validate("createdAt", next(cursor));
+    }
+
+    @Benchmark
+    public FieldResult cachedCheap(Cursor cursor) {
+        return cachedCheap.validate("createdAt", next(cursor));
+    }
+
+}
@@ -0,0 +1,55 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.LocalDateTimeFieldValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateTimeRangeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An ingest timestamp window, "the last 30 days, at most 5 minutes ahead": a chain rebuilt around
+ * {@code LocalDateTime.now()} for every record against one {@link LocalDateTimeRangeValidator} that resolves
+ * the window against its clock.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DateRangeBenchmark {
+
+    private final Clock clock = Clock.systemUTC();
+    private final IValidation<LocalDateTime> window = LocalDateTimeRangeValidator.nonNull()
+            .withinLast(Duration.ofDays(30), clock)
+            .notInFuture(Duration.ofMinutes(5), clock);
+    private final LocalDateTime timestamp = LocalDateTime.now(clock).minusHours(1);
+
+    @Benchmark
+    public FieldResult chainPerRecord() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return LocalDateTimeFieldValidator.nonNull()
+                .afterOrEqual(now.minusDays(30))
+                .beforeOrEqual(now.plusMinutes(5))
+                .validate("timestamp", timestamp);
+    }
+
+    @Benchmark
+    public FieldResult rangeValidator() {
+        return window.validate("timestamp", timestamp);
+    }
+
+}
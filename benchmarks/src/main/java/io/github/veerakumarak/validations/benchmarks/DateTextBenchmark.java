@@ -0,0 +1,72 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.LocalDateTextValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checking a date string against a lower bound: {@code DateTimeFormatter} parsing with exception driven
+ * control flow, against the scanning {@link LocalDateTextValidator} over a String and over UTF-8 bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DateTextBenchmark {
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final LocalDate FROM = LocalDate.of(2020, 1, 1);
+
+    @Param({"2024-06-15", "2024-13-45"})
+    public String input;
+
+    private final IValidation<CharSequence> text = LocalDateTextValidator.nonNull().afterOrEqual(FROM);
+    private final IValidation<ByteBuffer> bytes = LocalDateTextValidator.nonNullBytes().afterOrEqual(FROM);
+
+    private ByteBuffer utf8;
+
+    @Setup
+    public void setUp() {
+        utf8 = ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public boolean formatter() {
+        try {
+            return !LocalDate.parse(input, FORMAT).isBefore(FROM);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public FieldResult scanText() {
+        return text.validate("shipDate", input);
+    }
+
+    @Benchmark
+    public FieldResult scanBytes() {
+        return bytes.validate("shipDate", utf8);
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.fp.Failure;
+import io.github.veerakumarak.fp.failures.InvalidRequest;
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.ValidationResult;
+import io.github.veerakumarak.validations.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ways of turning a failed validation into an error: throwing with and without a stack trace, throwing
+ * a preallocated exception, and returning a {@link Failure}. Every call validates afresh, as a request would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FailureBenchmark {
+
+    private static final InvalidRequest PREALLOCATED = new InvalidRequest(Map.of());
+
+    private final FieldResult name = FieldResult.fail("name", "should not be empty");
+    private final FieldResult age = FieldResult.fail("age", "should be greater than 18");
+
+    private ValidationResult validate() {
+        return Validator.allValid(name, age);
+    }
+
+    @Benchmark
+    public Object orThrow() {
+        try {
+            validate().orThrow();
+            return null;
+        } catch (InvalidRequest e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object orThrowWithoutStackTrace() {
+        try {
+            validate().orThrowWithoutStackTrace();
+            return null;
+        } catch (InvalidRequest e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object orThrowPreallocated() {
+        try {
+            validate().orThrow(() -> PREALLOCATED);
+            return null;
+        } catch (InvalidRequest e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Failure toFailure() {
+        return validate().toFailure();
+    }
+
+    @Benchmark
+    public Failure toFailureWithoutStackTrace() {
+        return validate().toFailureWithoutStackTrace();
+    }
+
+}
@@ -0,0 +1,184 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.ListFieldValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateFieldValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateTimeFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single {@code validate} call for every helper, with a short (nullability + one rule)
+ * and a long chain, each fed a passing and a failing input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class FieldValidatorBenchmark {
+
+    private final IValidation<String> stringShort = StringFieldValidator.nonNull().minLength(3);
+    private final IValidation<String> stringLong = StringFieldValidator.nonNull()
+            .notEmpty()
+            .minLength(3)
+            .maxLength(64)
+            .contains("@")
+            .notEquals("admin@example.com")
+            .matchesRegex("^[A-Za-z0-9+_.-]+@(.+)$");
+    private final String stringValid = "john.doe@example.com";
+    private final String stringInvalid = "jd";
+
+    private final IValidation<Integer> integerShort = IntegerFieldValidator.nonNull().greaterThan(0);
+    private final IValidation<Integer> integerLong = IntegerFieldValidator.nonNull()
+            .greaterThan(0)
+            .lowerThan(150)
+            .between(17, 130)
+            .notEquals(42)
+            .notEquals(99);
+    private final Integer integerValid = 35;
+    private final Integer integerInvalid = -4;
+
+    private final IValidation<List<String>> listShort = ListFieldValidator.<String>nonNull().notEmpty();
+    private final IValidation<List<String>> listLong = ListFieldValidator.<String>nonNull()
+            .notEmpty()
+            .between(2, 16)
+            .contains("read")
+            .notContains("root")
+            .containsAll(List.of("read", "write"));
+    private final List<String> listValid = List.of("read", "write", "list", "delete");
+    private final List<String> listInvalid = List.of();
+
+    private final IValidation<LocalDate> dateShort = LocalDateFieldValidator.nonNull();
+    private final IValidation<LocalDate> dateLong = LocalDateFieldValidator.nonNull()
+            .after(LocalDate.of(1900, 1, 1))
+            .before(LocalDate.of(2100, 1, 1))
+            .notEqual(LocalDate.of(2000, 1, 1));
+    private final LocalDate dateValid = LocalDate.of(1990, 6, 15);
+    private final LocalDate dateInvalid = LocalDate.of(2000, 1, 1);
+
+    private final IValidation<LocalDateTime> dateTimeShort = LocalDateTimeFieldValidator.nonNull();
+    private final IValidation<LocalDateTime> dateTimeLong = LocalDateTimeFieldValidator.nonNull()
+            .after(LocalDateTime.of(1900, 1, 1, 0, 0))
+            .before(LocalDateTime.of(2100, 1, 1, 0, 0))
+            .notEqual(LocalDateTime.of(2000, 1, 1, 0, 0));
+    private final LocalDateTime dateTimeValid = LocalDateTime.of(1990, 6, 15, 10, 30);
+    private final LocalDateTime dateTimeInvalid = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Benchmark
+    public FieldResult stringShortValid() {
+        return stringShort.validate("email", stringValid);
+    }
+
+    @Benchmark
+    public FieldResult stringShortInvalid() {
+        return stringShort.validate("email", stringInvalid);
+    }
+
+    @Benchmark
+    public FieldResult stringLongValid() {
+        return stringLong.validate("email", stringValid);
+    }
+
+    @Benchmark
+    public FieldResult stringLongInvalid() {
+        return stringLong.validate("email", stringInvalid);
+    }
+
+    @Benchmark
+    public FieldResult integerShortValid() {
+        return integerShort.validate("age", integerValid);
+    }
+
+    @Benchmark
+    public FieldResult integerShortInvalid() {
+        return integerShort.validate("age", integerInvalid);
+    }
+
+    @Benchmark
+    public FieldResult integerLongValid() {
+        return integerLong.validate("age", integerValid);
+    }
+
+    @Benchmark
+    public FieldResult integerLongInvalid() {
+        return integerLong.validate("age", integerInvalid);
+    }
+
+    @Benchmark
+    public FieldResult listShortValid() {
+        return listShort.validate("scopes", listValid);
+    }
+
+    @Benchmark
+    public FieldResult listShortInvalid() {
+        return listShort.validate("scopes", listInvalid);
+    }
+
+    @Benchmark
+    public FieldResult listLongValid() {
+        return listLong.validate("scopes", listValid);
+    }
+
+    @Benchmark
+    public FieldResult listLongInvalid() {
+        return listLong.validate("scopes", listInvalid);
+    }
+
+    @Benchmark
+    public FieldResult dateShortValid() {
+        return dateShort.validate("birthDate", dateValid);
+    }
+
+    @Benchmark
+    public FieldResult dateShortInvalid() {
+        return dateShort.validate("birthDate", null);
+    }
+
+    @Benchmark
+    public FieldResult dateLongValid() {
+        return dateLong.validate("birthDate", dateValid);
+    }
+
+    @Benchmark
+    public FieldResult dateLongInvalid() {
+        return dateLong.validate("birthDate", dateInvalid);
+    }
+
+    @Benchmark
+    public FieldResult dateTimeShortValid() {
+        return dateTimeShort.validate("createdAt", dateTimeValid);
+    }
+
+    @Benchmark
+    public FieldResult dateTimeShortInvalid() {
+        return dateTimeShort.validate("createdAt", null);
+    }
+
+    @Benchmark
+    public FieldResult dateTimeLongValid() {
+        return dateTimeLong.validate("createdAt", dateTimeValid);
+    }
+
+    @Benchmark
+    public FieldResult dateTimeLongInvalid() {
+        return dateTimeLong.validate("createdAt", dateTimeInvalid);
+    }
+
+}
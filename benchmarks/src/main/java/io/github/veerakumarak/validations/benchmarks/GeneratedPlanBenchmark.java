@@ -0,0 +1,89 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.CompilationMode;
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Valid values through {@code validators} distinct chains in rotation, interpreted against optimized and generated.
+ * With one chain both inline; with many, the interpreter's predicate call goes megamorphic and every
+ * rule costs a virtual call, while each generated plan keeps its rules inlined behind one call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class GeneratedPlanBenchmark {
+
+    private static final List<UnaryOperator<StringFieldValidator>> RULES = List.of(
+            v -> v.minLength(1),
+            v -> v.maxLength(64),
+            v -> v.notEmpty(),
+            v -> v.contains("-"),
+            v -> v.notEquals("none"),
+            v -> v.lengthBetween(3, 40));
+
+    @Param({"1", "32"})
+    public int validators;
+
+    private IValidation<String>[] interpreted;
+    private IValidation<String>[] optimized;
+    private IValidation<String>[] generated;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        interpreted = new IValidation[validators];
+        optimized = new IValidation[validators];
+        generated = new IValidation[validators];
+        for (int i = 0; i < validators; i++) {
+            // a different order and subset of rules per chain
+            List<UnaryOperator<StringFieldValidator>> rules = new ArrayList<>(RULES);
+            Collections.rotate(rules, i);
+            StringFieldValidator chain = StringFieldValidator.nonNull();
+            for (int r = 0; r < 3 + i % 4; r++) {
+                chain = rules.get(r).apply(chain);
+            }
+            interpreted[i] = chain.compile();
+            optimized[i] = chain.compile(CompilationMode.OPTIMIZED);
+            generated[i] = chain.compile(CompilationMode.GENERATED);
+        }
+    }
+
+    @Benchmark
+    public FieldResult interpreted() {
+        return interpreted[next++ % validators].validate("sku", "ab-1234");
+    }
+
+    @Benchmark
+    public FieldResult optimized() {
+        return optimized[next++ % validators].validate("sku", "ab-1234");
+    }
+
+    @Benchmark
+    public FieldResult generated() {
+        return generated[next++ % validators].validate("sku", "ab-1234");
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import io.github.veerakumarak.validations.metrics.InMemoryValidationMetrics;
+import io.github.veerakumarak.validations.metrics.ValidationMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rule instrumentation: no listener installed, and {@link InMemoryValidationMetrics} timing
+ * every validation or one in 64.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"disabled", "1", "64"})
+    public String sampling;
+
+    private final IValidation<String> validation = StringFieldValidator.nonNull().notEmpty().minLength(3).maxLength(64).contains("@");
+
+    @Setup
+    public void setUp() {
+        if (!sampling.equals("disabled")) {
+            ValidationMetrics.install(new InMemoryValidationMetrics(Integer.parseInt(sampling)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ValidationMetrics.uninstall();
+    }
+
+    @Benchmark
+    public FieldResult validate() {
+        return validation.validate("email", "john.doe@example.com");
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.Schema;
+import io.github.veerakumarak.validations.ValidationResult;
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An order with 10k line items validated through {@link Schema.Builder#each}, all valid and with one invalid item.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NestedBenchmark {
+
+    public record Item(String sku, Integer quantity) {
+    }
+
+    public record Order(String id, List<Item> items) {
+    }
+
+    private final Schema<Order> schema = Schema.<Order>builder()
+            .field("id", Order::id, StringFieldValidator.nonNull().notEmpty())
+            .each("items", Order::items, Schema.forRecord(Item.class)
+                    .field("sku", StringFieldValidator.nonNull().minLength(3).maxLength(16))
+                    .field("quantity", IntegerFieldValidator.nonNull().between(1, 100))
+                    .build())
+            .build();
+
+    private Order valid;
+    private Order invalid;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            items.add(new Item("sku-" + (i % 512), 1 + i % 100));
+        }
+        valid = new Order("order-1", items);
+
+        List<Item> withFailure = new ArrayList<>(items);
+        withFailure.set(9_999, new Item("x", 0));
+        invalid = new Order("order-2", withFailure);
+    }
+
+    @Benchmark
+    public ValidationResult allValid() {
+        return schema.validate(valid);
+    }
+
+    @Benchmark
+    public ValidationResult oneInvalid() {
+        return schema.validate(invalid);
+    }
+
+}
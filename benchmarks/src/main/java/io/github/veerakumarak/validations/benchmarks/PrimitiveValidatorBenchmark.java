@@ -0,0 +1,60 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.DoubleValidator;
+import io.github.veerakumarak.validations.helpers.IntValidator;
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.LongValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range checks on numbers outside the {@link Integer} cache, through the boxed
+ * {@link IntegerFieldValidator} and the primitive validators.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PrimitiveValidatorBenchmark {
+
+    private final IValidation<Integer> boxed = IntegerFieldValidator.nonNull().between(-1_000_000, 1_000_000).notEquals(0);
+    private final IntValidator ints = IntValidator.nonNull().between(-1_000_000, 1_000_000).notEquals(0);
+    private final LongValidator longs = LongValidator.nonNull().between(-1_000_000L, 1_000_000L).notEquals(0L);
+    private final DoubleValidator doubles = DoubleValidator.nonNull().between(-1_000_000d, 1_000_000d).notEquals(0d);
+
+    private int value = 48_213;
+
+    @Benchmark
+    public FieldResult integerFieldValidator() {
+        return boxed.validate("reading", value);
+    }
+
+    @Benchmark
+    public FieldResult intValidator() {
+        return ints.validate("reading", value);
+    }
+
+    @Benchmark
+    public FieldResult longValidator() {
+        return longs.validate("reading", (long) value);
+    }
+
+    @Benchmark
+    public FieldResult doubleValidator() {
+        return doubles.validate("reading", (double) value);
+    }
+
+}
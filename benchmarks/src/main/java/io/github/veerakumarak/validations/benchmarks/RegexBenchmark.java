@@ -0,0 +1,65 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.PatternCache;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * {@code String.matches} (the previous behavior of {@code matchesRegex}) against the precompiled
+ * pattern, and the cost of building a regex validator with and without {@link PatternCache}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RegexBenchmark {
+
+    private static final String EMAIL = "^[A-Za-z0-9+_.-]+@(.+)$";
+
+    private final Pattern pattern = Pattern.compile(EMAIL);
+    private final IValidation<String> validation = StringFieldValidator.nonNull().matchesRegex(EMAIL);
+    private final PatternCache cache = new PatternCache(16);
+
+    private String input = "john.doe@example.com";
+
+    @Benchmark
+    public boolean stringMatches() {
+        return input.matches(EMAIL);
+    }
+
+    @Benchmark
+    public boolean precompiledPattern() {
+        return pattern.matcher(input).matches();
+    }
+
+    @Benchmark
+    public FieldResult validator() {
+        return validation.validate("email", input);
+    }
+
+    @Benchmark
+    public IValidation<String> buildUncached() {
+        return StringFieldValidator.nonNull().matchesRegex(EMAIL);
+    }
+
+    @Benchmark
+    public IValidation<String> buildCached() {
+        return StringFieldValidator.nonNull().matchesRegex(EMAIL, cache);
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.RuleSet;
+import io.github.veerakumarak.validations.ValidatorRegistry;
+import io.github.veerakumarak.validations.helpers.PatternCache;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A per-tenant sku rule rebuilt from configuration on every request against one fetched from a
+ * {@link ValidatorRegistry} holding 100 tenants, while readers on 4 threads share the registry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RegistryBenchmark {
+
+    private static final int TENANTS = 100;
+
+    private final ValidatorRegistry registry = new ValidatorRegistry();
+    private String[] tenants;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup
+    public void setUp() {
+        tenants = new String[TENANTS];
+        RuleSet.Builder rules = RuleSet.builder().add("sku", rule(40));
+        for (int i = 0; i < TENANTS; i++) {
+            tenants[i] = "tenant" + i;
+            rules.add(tenants[i], "sku", rule(10 + i % 30));
+        }
+        registry.replace(rules.build());
+    }
+
+    private static StringFieldValidator rule(int maxLength) {
+        return StringFieldValidator.nonNull().maxLength(maxLength).matchesRegex("[A-Z]+-\\d+", PatternCache.shared());
+    }
+
+    @Benchmark
+    public FieldResult rebuildPerRequest(Cursor cursor) {
+        int tenant = cursor.next++ % TENANTS;
+        return rule(10 + tenant % 30).validate("sku", "AB-1234");
+    }
+
+    @Benchmark
+    public FieldResult registryLookup(Cursor cursor) {
+        String tenant = tenants[cursor.next++ % TENANTS];
+        return registry.<String>get(tenant, "sku").validate("sku", "AB-1234");
+    }
+
+}
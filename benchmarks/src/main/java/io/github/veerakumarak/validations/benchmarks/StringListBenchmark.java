@@ -0,0 +1,89 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clean 500 character comments against a deny list of {@code terms} random words, {@code containsNoneOf}
+ * against a loop of {@code String.contains}, and codes against an allow list, {@code oneOf} against a {@code HashSet}.
+ * The automaton and the trie should stay flat as the lists grow; the contains loop grows with them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StringListBenchmark {
+
+    @Param({"100", "50000"})
+    public int terms;
+
+    private final String comment = "Arrived on time and works as described, would order from this shop again. ".repeat(7).substring(0, 500);
+    private List<String> denied;
+    private IValidation<String> containsNoneOf;
+    private Set<String> allowedSet;
+    private IValidation<String> oneOf;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        denied = new ArrayList<>(terms);
+        List<String> codes = new ArrayList<>(terms);
+        for (int i = 0; i < terms; i++) {
+            StringBuilder word = new StringBuilder("zq");
+            for (int j = 0, length = 4 + random.nextInt(6); j < length; j++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            denied.add(word.toString());
+            codes.add(String.format("C%07d", i));
+        }
+        containsNoneOf = StringFieldValidator.nonNull().containsNoneOf(denied);
+        allowedSet = Set.copyOf(codes);
+        oneOf = StringFieldValidator.nonNull().oneOf(codes);
+    }
+
+    @Benchmark
+    public FieldResult containsNoneOf() {
+        return containsNoneOf.validate("comment", comment);
+    }
+
+    @Benchmark
+    public boolean containsLoop() {
+        for (String term : denied) {
+            if (comment.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public FieldResult oneOf() {
+        return oneOf.validate("code", "C0000042");
+    }
+
+    @Benchmark
+    public boolean hashSet() {
+        return allowedSet.contains("C0000042");
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.github.veerakumarak.validations.benchmarks;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.ValidationResult;
+import io.github.veerakumarak.validations.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregation of already computed {@link FieldResult}s through {@link Validator} and the rendering
+ * of the resulting {@link ValidationResult}. Every fifth result of the mixed list is a failure, and
+ * field names repeat every 50 entries so merging of duplicate fields is exercised too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private List<FieldResult> allValid;
+    private List<FieldResult> mixed;
+    private List<FieldResult> allInvalid;
+    private ValidationResult invalidResult;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+
+    @Setup
+    public void setUp() {
+        allValid = new ArrayList<>(size);
+        mixed = new ArrayList<>(size);
+        allInvalid = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String field = "field" + (i % 50);
+            FieldResult fail = FieldResult.fail(field, List.of("should not be empty", "should have at least 3 characters"));
+            allValid.add(FieldResult.ok(field));
+            mixed.add(i % 5 == 0 ? fail : FieldResult.ok(field));
+            allInvalid.add(fail);
+        }
+        invalidResult = ValidationResult.of(mixed);
+    }
+
+    @Benchmark
+    public ValidationResult allValidAllPassing() {
+        return Validator.allValid(allValid);
+    }
+
+    @Benchmark
+    public ValidationResult allValidMixed() {
+        return Validator.allValid(mixed);
+    }
+
+    @Benchmark
+    public ValidationResult anyValidMixed() {
+        return Validator.anyValid(mixed);
+    }
+
+    @Benchmark
+    public ValidationResult anyValidAllFailing() {
+        return Validator.anyValid(allInvalid);
+    }
+
+    @Benchmark
+    public ValidationResult resultOfAllPassing() {
+        return ValidationResult.of(allValid);
+    }
+
+    @Benchmark
+    public ValidationResult resultOfMixed() {
+        return ValidationResult.of(mixed);
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return invalidResult.getMessage();
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes() {
+        return invalidResult.toJsonBytes();
+    }
+
+    @Benchmark
+    public ByteBuffer writeJsonToDirectBuffer() {
+        buffer.clear();
+        invalidResult.writeJson(buffer);
+        return buffer;
+    }
+
+}
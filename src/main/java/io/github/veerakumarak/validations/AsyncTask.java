@@ -0,0 +1,91 @@
+package io.github.veerakumarak.validations;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A {@link CompletableFuture} that runs its body on an executor and interrupts the running thread when cancelled.
+ * {@code CompletableFuture.supplyAsync} cannot do this, its futures only stop waiting callers.
+ */
+final class AsyncTask<T> extends CompletableFuture<T> implements Runnable {
+
+	static final Executor DEFAULT_EXECUTOR = createDefaultExecutor();
+
+	private final Supplier<T> body;
+	// guards runner and interrupted, so an interrupt from cancel never reaches a thread that moved on to other work
+	private final Object lock = new Object();
+	private Thread runner;
+	private boolean interrupted;
+
+	private AsyncTask(Supplier<T> body) {
+		this.body = body;
+	}
+
+	static <T> CompletableFuture<T> run(Supplier<T> body, Executor executor) {
+		AsyncTask<T> task = new AsyncTask<>(body);
+		executor.execute(task);
+		return task;
+	}
+
+	@Override
+	public void run() {
+		if (isDone()) {
+			return;
+		}
+		synchronized (lock) {
+			runner = Thread.currentThread();
+		}
+		try {
+			complete(body.get());
+		} catch (Throwable e) {
+			completeExceptionally(e);
+		} finally {
+			boolean cancelled;
+			synchronized (lock) {
+				runner = null;
+				cancelled = interrupted;
+			}
+			// drop only the interrupt cancel sent, pooled threads are reused; one the thread already had stays
+			if (cancelled) {
+				Thread.interrupted();
+			}
+		}
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		if (cancelled) {
+			synchronized (lock) {
+				if (runner != null) {
+					interrupted = true;
+					runner.interrupt();
+				}
+			}
+		}
+		return cancelled;
+	}
+
+	private static Executor createDefaultExecutor() {
+		try {
+			// looked up reflectively so the library still compiles and runs on Java 17
+			return (ExecutorService) MethodHandles.publicLookup()
+					.findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+					.invokeExact();
+		} catch (Throwable e) {
+			AtomicInteger count = new AtomicInteger();
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "validations-async-" + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * A validation that completes later, typically because it needs I/O such as "username not taken".
+ * Combine several with {@link Validator#allValidAsync} or {@link Validator#anyValidAsync} to run them concurrently.
+ * <p>
+ * Cancelling the returned future should stop the underlying work where possible; the futures created by
+ * {@link #blocking(IValidation, Executor)} interrupt the thread running the check.
+ */
+@FunctionalInterface
+public interface AsyncValidation<K> {
+
+	CompletableFuture<FieldResult> validate(String field, K param);
+
+	/**
+	 * Runs a blocking {@code validation} on {@link #defaultExecutor()}.
+	 */
+	static <K> AsyncValidation<K> blocking(IValidation<K> validation) {
+		return blocking(validation, defaultExecutor());
+	}
+
+	/**
+	 * Runs a blocking {@code validation} on {@code executor}. Cancelling the future interrupts the check if it is running.
+	 */
+	static <K> AsyncValidation<K> blocking(IValidation<K> validation, Executor executor) {
+		Objects.requireNonNull(validation, "Validation cannot be null.");
+		Objects.requireNonNull(executor, "Executor cannot be null.");
+		return (field, param) -> AsyncTask.run(() -> validation.validate(field, param), executor);
+	}
+
+	/**
+	 * Adapts a synchronous {@code validation}; it runs on the calling thread and the future is already complete.
+	 */
+	static <K> AsyncValidation<K> completed(IValidation<K> validation) {
+		Objects.requireNonNull(validation, "Validation cannot be null.");
+		return (field, param) -> CompletableFuture.completedFuture(validation.validate(field, param));
+	}
+
+	/**
+	 * Virtual threads when the runtime has them (Java 21+), otherwise a shared pool of cached daemon threads.
+	 */
+	static Executor defaultExecutor() {
+		return AsyncTask.DEFAULT_EXECUTOR;
+	}
+
+}
@@ -0,0 +1,44 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Arrays;
+
+/**
+ * Growable parallel arrays of failing indices and results, merged in input order into a {@link BatchResult}.
+ */
+final class BatchCollector {
+
+	private long[] indices = new long[0];
+	private ValidationResult[] failures = new ValidationResult[0];
+	private int size;
+
+	void add(long index, ValidationResult failure) {
+		if (size == indices.length) {
+			int capacity = Math.max(8, size * 2);
+			indices = Arrays.copyOf(indices, capacity);
+			failures = Arrays.copyOf(failures, capacity);
+		}
+		indices[size] = index;
+		failures[size] = failure;
+		size++;
+	}
+
+	BatchCollector addAll(BatchCollector other) {
+		for (int i = 0; i < other.size; i++) {
+			add(other.indices[i], other.failures[i]);
+		}
+		return this;
+	}
+
+	int size() {
+		return size;
+	}
+
+	BatchResult toResult(long total) {
+		return toResult(total, size);
+	}
+
+	BatchResult toResult(long total, long failed) {
+		return new BatchResult(total, failed, Arrays.copyOf(indices, size), Arrays.copyOf(failures, size));
+	}
+
+}
@@ -0,0 +1,74 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of validating many records. Only failing records are kept, as parallel arrays of their
+ * position in the input and their {@link ValidationResult}; valid records cost nothing.
+ */
+public final class BatchResult {
+
+	private final long total;
+	private final long failed;
+	private final long[] indices;
+	private final ValidationResult[] failures;
+
+	BatchResult(long total, long failed, long[] indices, ValidationResult[] failures) {
+		this.total = total;
+		this.failed = failed;
+		this.indices = indices;
+		this.failures = failures;
+	}
+
+	/**
+	 * Number of records validated.
+	 */
+	public long total() {
+		return total;
+	}
+
+	/**
+	 * Number of failing records, which can be larger than {@link #size()} when failures were not all kept.
+	 */
+	public long failed() {
+		return failed;
+	}
+
+	public boolean isValid() {
+		return failed == 0;
+	}
+
+	/**
+	 * Number of failures kept, in input order.
+	 */
+	public int size() {
+		return indices.length;
+	}
+
+	public long index(int i) {
+		return indices[i];
+	}
+
+	public ValidationResult failure(int i) {
+		return failures[i];
+	}
+
+	/**
+	 * Kept failures keyed by their position in the input, in input order.
+	 */
+	public Map<Long, ValidationResult> failures() {
+		Map<Long, ValidationResult> byIndex = new LinkedHashMap<>();
+		for (int i = 0; i < indices.length; i++) {
+			byIndex.put(indices[i], failures[i]);
+		}
+		return Collections.unmodifiableMap(byIndex);
+	}
+
+	@Override
+	public String toString() {
+		return "BatchResult[total=" + total + ", failed=" + failed + ", failures=" + failures() + "]";
+	}
+
+}
@@ -0,0 +1,115 @@
+package io.github.veerakumarak.validations;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link ValidationPlan} that remembers its outcome per input value, created by {@link FieldValidator#cached(int)}.
+ * <p>
+ * Entries hold the failure messages only, never the field name, so one cached outcome serves every field the
+ * validation is used for. The cache is split into independently locked LRU stripes to keep threads from
+ * contending on one lock; {@code null} inputs are cheap to check and bypass it.
+ */
+public final class CachedValidation<K> implements IValidation<K> {
+
+	private static final int MAX_STRIPES = 16;
+	// stored for valid inputs, so a hit can be told apart from a missing entry
+	private static final List<Message> VALID = List.of();
+
+	private final ValidationPlan<K> plan;
+	private final Stripe<K>[] stripes;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public record Stats(long hits, long misses, long evictions, int size) {
+
+		public double hitRate() {
+			long requests = hits + misses;
+			return requests == 0 ? 0 : (double) hits / requests;
+		}
+
+	}
+
+	// never serialized, it only extends LinkedHashMap for its access order
+	@SuppressWarnings("serial")
+	private final class Stripe<V> extends LinkedHashMap<V, List<Message>> {
+
+		private final int capacity;
+
+		private Stripe(int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<V, List<Message>> eldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	CachedValidation(ValidationPlan<K> plan, int maxEntries) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries must be positive");
+		}
+		this.plan = plan;
+		int count = Math.min(MAX_STRIPES, Integer.highestOneBit(maxEntries));
+		this.stripes = new Stripe[count];
+		for (int i = 0; i < count; i++) {
+			// spread the remainder so the stripes add up to exactly maxEntries
+			stripes[i] = new Stripe<>(maxEntries / count + (i < maxEntries % count ? 1 : 0));
+		}
+	}
+
+	@Override
+	public FieldResult validate(String field, K param) {
+		if (param == null) {
+			return plan.validate(field, param);
+		}
+		Stripe<K> stripe = stripeOf(param);
+		List<Message> reasons;
+		synchronized (stripe) {
+			reasons = stripe.get(param);
+		}
+		if (reasons != null) {
+			hits.increment();
+		} else {
+			misses.increment();
+			// evaluated outside the lock; concurrent misses on the same value may both compute it
+			reasons = plan.failures(field, param);
+			if (reasons == null) {
+				reasons = VALID;
+			} else {
+				reasons = List.copyOf(reasons);
+			}
+			synchronized (stripe) {
+				stripe.put(param, reasons);
+			}
+		}
+		return reasons == VALID ? FieldResult.ok(field) : FieldResult.failWith(field, reasons);
+	}
+
+	public Stats stats() {
+		int size = 0;
+		for (Stripe<K> stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+	}
+
+	private Stripe<K> stripeOf(K param) {
+		int h = param.hashCode();
+		return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+	}
+
+}
@@ -0,0 +1,21 @@
+package io.github.veerakumarak.validations;
+
+/**
+ * How {@link FieldValidator#compile(CompilationMode)} runs a chain.
+ */
+public enum CompilationMode {
+	/** Loop over the rule arrays, the default. */
+	INTERPRETED,
+	/**
+	 * Check values against an optimized copy of the chain first: runs of built-in rules are merged, pruned and
+	 * ordered by cost. Valid values take that path, invalid ones are evaluated again by the interpreter to
+	 * collect their reasons.
+	 */
+	OPTIMIZED,
+	/**
+	 * Like {@link #OPTIMIZED}, but the optimized chain is folded into a {@code MethodHandle} tree held as a
+	 * constant by a hidden class, so the JIT inlines every rule into one method no matter how many other
+	 * chains the process runs.
+	 */
+	GENERATED
+}
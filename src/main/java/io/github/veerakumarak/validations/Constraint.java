@@ -0,0 +1,99 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * A predicate whose meaning the optimizer can read: a range, an equality or an opaque check with a cost.
+ * The built-in helpers pass these to {@link FieldValidator}; custom validators may do the same to have their
+ * rules merged and reordered by {@link CompilationMode#OPTIMIZED} and {@link CompilationMode#GENERATED} plans.
+ * <p>
+ * Constraints on the same {@code subject} describe the same value, e.g. {@code "string.length"}, and must be
+ * free of side effects and must not throw for the values that reach them.
+ */
+public final class Constraint<K> implements Predicate<K> {
+
+	/** Constant time, e.g. a length or a number comparison. */
+	public static final int CHEAP = 1;
+	/** Linear in the value, e.g. {@code equals} or {@code contains} on text. */
+	public static final int LINEAR = 10;
+	/** Backtracking or allocating, e.g. a regular expression. */
+	public static final int EXPENSIVE = 100;
+
+	enum Kind {
+		RANGE,
+		EQUAL,
+		NOT_EQUAL,
+		OTHER
+	}
+
+	final Kind kind;
+	final String subject;
+	final int cost;
+	// inclusive bounds of measure, RANGE only
+	final ToLongFunction<? super K> measure;
+	final long min;
+	final long max;
+	// EQUAL and NOT_EQUAL only; a Long is also comparable with the ranges of the subject
+	final Object value;
+	private final Predicate<? super K> test;
+
+	private Constraint(Kind kind, String subject, int cost, ToLongFunction<? super K> measure, long min, long max, Object value,
+					   Predicate<? super K> test) {
+		this.kind = kind;
+		this.subject = subject;
+		this.cost = cost;
+		this.measure = measure;
+		this.min = min;
+		this.max = max;
+		this.value = value;
+		this.test = test;
+	}
+
+	/**
+	 * Passes when {@code measure} of the value is between {@code min} and {@code max}, both inclusive.
+	 */
+	public static <K> Constraint<K> range(String subject, ToLongFunction<? super K> measure, long min, long max) {
+		Objects.requireNonNull(measure);
+		return new Constraint<>(Kind.RANGE, Objects.requireNonNull(subject), CHEAP, measure, min, max, null, v -> {
+			long measured = measure.applyAsLong(v);
+			return measured >= min && measured <= max;
+		});
+	}
+
+	/**
+	 * Passes when the value equals {@code value}, as decided by {@code test}. A {@code null} value cannot be
+	 * compared with other rules, so the constraint is then treated like {@link #of(int, Predicate)}.
+	 */
+	public static <K> Constraint<K> equalTo(String subject, Object value, int cost, Predicate<? super K> test) {
+		if (value == null) {
+			return of(cost, test);
+		}
+		return new Constraint<>(Kind.EQUAL, Objects.requireNonNull(subject), cost, null, 0, 0, value, Objects.requireNonNull(test));
+	}
+
+	/**
+	 * Passes when the value does not equal {@code value}, as decided by {@code test}. A {@code null} value is
+	 * handled as in {@link #equalTo}.
+	 */
+	public static <K> Constraint<K> notEqualTo(String subject, Object value, int cost, Predicate<? super K> test) {
+		if (value == null) {
+			return of(cost, test);
+		}
+		return new Constraint<>(Kind.NOT_EQUAL, Objects.requireNonNull(subject), cost, null, 0, 0, value, Objects.requireNonNull(test));
+	}
+
+	/**
+	 * Any other check; only its cost is known, so it is reordered but never merged.
+	 */
+	public static <K> Constraint<K> of(int cost, Predicate<? super K> test) {
+		return new Constraint<>(Kind.OTHER, null, cost, null, 0, 0, null, Objects.requireNonNull(test));
+	}
+
+	@Override
+	public boolean test(K value) {
+		return test.test(value);
+	}
+
+}
@@ -0,0 +1,56 @@
+package io.github.veerakumarak.validations;
+
+/**
+ * How many failures a streaming validation keeps, and whether it stops consuming input once it has kept
+ * that many. Memory stays bounded by {@code keep}, whatever the size of the input.
+ */
+public record FailurePolicy(int keep, boolean stopWhenFull) {
+
+	private static final FailurePolicy ALL = new FailurePolicy(Integer.MAX_VALUE, false);
+	private static final FailurePolicy COUNT_ONLY = new FailurePolicy(0, false);
+
+	public FailurePolicy {
+		if (keep < 0) {
+			throw new IllegalArgumentException("keep cannot be negative");
+		}
+		if (keep == 0 && stopWhenFull) {
+			throw new IllegalArgumentException("A policy that stops must keep at least one failure");
+		}
+	}
+
+	/**
+	 * Consume everything and keep every failure.
+	 */
+	public static FailurePolicy all() {
+		return ALL;
+	}
+
+	/**
+	 * Stop at the first failure.
+	 */
+	public static FailurePolicy firstFailure() {
+		return firstN(1);
+	}
+
+	/**
+	 * Stop once {@code n} failures were found.
+	 */
+	public static FailurePolicy firstN(int n) {
+		return new FailurePolicy(n, true);
+	}
+
+	/**
+	 * Consume everything, keep the first {@code n} failures and only count the others.
+	 */
+	public static FailurePolicy keepFirst(int n) {
+		return new FailurePolicy(n, false);
+	}
+
+	/**
+	 * Consume everything and only count failures.
+	 */
+	public static FailurePolicy countOnly() {
+		return COUNT_ONLY;
+	}
+
+}
@@ -0,0 +1,65 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Arrays;
+
+/**
+ * Stack of the field names and element indices leading to the value being validated, e.g.
+ * {@code items}, {@code 37}. Pushing and popping only store into arrays; the dotted path
+ * {@code items[37].sku} is built by {@link #resolve(String)} when a failure is reported.
+ * <p>
+ * Not thread safe, one instance belongs to a single {@link Schema#validate(Object)} call.
+ */
+final class FieldPath {
+
+	// name of each segment, null for an element index
+	private String[] names = new String[8];
+	private int[] indices = new int[8];
+	private int depth;
+
+	void push(String name) {
+		ensureCapacity();
+		names[depth++] = name;
+	}
+
+	void push(int index) {
+		ensureCapacity();
+		names[depth] = null;
+		indices[depth++] = index;
+	}
+
+	void pop() {
+		names[--depth] = null;
+	}
+
+	/**
+	 * The path to {@code leaf} below the current segments; {@code leaf} may be null to name the current value.
+	 */
+	String resolve(String leaf) {
+		StringBuilder path = new StringBuilder(16 * (depth + 1));
+		for (int i = 0; i < depth; i++) {
+			if (names[i] == null) {
+				path.append('[').append(indices[i]).append(']');
+			} else {
+				if (path.length() > 0) {
+					path.append('.');
+				}
+				path.append(names[i]);
+			}
+		}
+		if (leaf != null) {
+			if (path.length() > 0) {
+				path.append('.');
+			}
+			path.append(leaf);
+		}
+		return path.toString();
+	}
+
+	private void ensureCapacity() {
+		if (depth == names.length) {
+			names = Arrays.copyOf(names, depth * 2);
+			indices = Arrays.copyOf(indices, depth * 2);
+		}
+	}
+
+}
@@ -1,11 +1,31 @@
 package io.github.veerakumarak.validations;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public record FieldResult(boolean valid, String field, List<String> reasons) {
 
+	// field names are a small, fixed set in practice; the bound only protects against generated names
+	private static final int OK_CACHE_LIMIT = 4096;
+	private static final Map<String, FieldResult> OK_CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the successful result for {@code field}. Results are immutable, so one shared instance is
+	 * handed out per field name and the valid path of a validation does not allocate.
+	 */
 	public static FieldResult ok(String field){
-		return new FieldResult(true, field, List.of());
+		if (field == null) {
+			return new FieldResult(true, null, List.of());
+		}
+		FieldResult cached = OK_CACHE.get(field);
+		if (cached == null) {
+			cached = new FieldResult(true, field, List.of());
+			if (OK_CACHE.size() < OK_CACHE_LIMIT) {
+				OK_CACHE.putIfAbsent(field, cached);
+			}
+		}
+		return cached;
 	}
 	
 	public static FieldResult fail(String field, String message){
@@ -16,4 +36,20 @@ public record FieldResult(boolean valid, String field, List<String> reasons) {
 		return new FieldResult(false, field, reasons);
 	}
 
+	public static FieldResult fail(String field, Message message){
+		return new FieldResult(false, field, new MessageList(List.of(message)));
+	}
+
+	public static FieldResult failWith(String field, List<Message> messages){
+		return new FieldResult(false, field, new MessageList(messages));
+	}
+
+	/**
+	 * The reasons as {@link Message}s, with their codes and arguments. Reasons given as plain strings
+	 * become messages without a code.
+	 */
+	public List<Message> messages() {
+		return MessageList.messagesOf(reasons);
+	}
+
 }
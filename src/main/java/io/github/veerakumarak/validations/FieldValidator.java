@@ -1,51 +1,92 @@
 package io.github.veerakumarak.validations;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 // != null && val > 30
 // == null
 // (==null) or (val > 30)
 public class FieldValidator<K> implements IValidation<K> {
 
-	private final List<Val<K>> vals;
+	private final Rule<K> last;
 
-	private record Val<L>(Predicate<L> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
-	}
+	// compiled on first use; the plan is immutable with final fields, so a racy publish is safe
+	private ValidationPlan<K> plan;
+	private ValidationPlan<K> optimizedPlan;
+	private ValidationPlan<K> generatedPlan;
 
     protected FieldValidator(Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
-		this.vals = List.of(new Val<>(predicate, terminate, errorOn, onErrorMessage));
+		this(predicate, terminate, errorOn, text(onErrorMessage));
 	}
     protected FieldValidator(FieldValidator<K> other, Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
-        this.vals = Stream.concat(other.vals.stream(), Stream.of(new Val<>(predicate, terminate, errorOn, onErrorMessage))).toList();
+        this(other, predicate, terminate, errorOn, text(onErrorMessage));
+    }
+    protected FieldValidator(Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		this.last = Rule.first(predicate, terminate, errorOn, onErrorMessage, null);
+	}
+    protected FieldValidator(FieldValidator<K> other, Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+        this.last = other.last.then(predicate, terminate, errorOn, onErrorMessage, null);
+    }
+	/**
+	 * Adds a rule whose reasons depend on the failing value, e.g. one reason per invalid list element.
+	 * {@code describeFailure} only runs when the rule fails and reports; {@code onErrorMessage} names the rule.
+	 */
+    protected FieldValidator(FieldValidator<K> other, Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage,
+							 Function<? super K, List<Message>> describeFailure) {
+        this.last = other.last.then(predicate, terminate, errorOn, onErrorMessage, describeFailure);
     }
 
-	@Override
-	public FieldResult validate(String field, K param) {
-		List<String> reasons = new ArrayList<>();
-		boolean hasFailures = false;
-
-		for (Val<K> val : this.vals) {
-			boolean testPassed = val.predicate.test(param);
-
-			if (!testPassed) {
-				hasFailures = true;
-				if (val.errorOn == ErrorOn.FAILURE) {
-					reasons.add(val.onErrorMessage);
-				}
-				if (val.terminate == Terminate.FAILURE) {
-					break;
-				}
+	/**
+	 * Freezes this chain into a {@link ValidationPlan}. The plan is built once and cached, so validators
+	 * kept in static fields can call this eagerly and pay nothing on the first request.
+	 */
+	public ValidationPlan<K> compile() {
+		ValidationPlan<K> compiled = plan;
+		if (compiled == null) {
+			compiled = ValidationPlan.of(last, CompilationMode.INTERPRETED);
+			plan = compiled;
+		}
+		return compiled;
+	}
+
+	/**
+	 * Freezes this chain with the given backend, cached like {@link #compile()}. Hold on to the returned plan
+	 * and validate through it; {@link #validate(String, Object)} on this validator stays interpreted.
+	 */
+	public ValidationPlan<K> compile(CompilationMode mode) {
+		if (mode == CompilationMode.INTERPRETED) {
+			return compile();
+		}
+		ValidationPlan<K> compiled = mode == CompilationMode.OPTIMIZED ? optimizedPlan : generatedPlan;
+		if (compiled == null) {
+			compiled = ValidationPlan.of(last, mode);
+			if (mode == CompilationMode.OPTIMIZED) {
+				optimizedPlan = compiled;
 			} else {
-				if (val.terminate == Terminate.SUCCESS) {
-					break;
-				}
+				generatedPlan = compiled;
 			}
 		}
+		return compiled;
+	}
+
+	/**
+	 * Wraps this chain in a cache that remembers the outcome of up to {@code maxEntries} distinct inputs.
+	 * Worth it only for expensive rules such as regular expressions, and only for immutable inputs
+	 * with a stable {@code equals}/{@code hashCode}.
+	 */
+	public CachedValidation<K> cached(int maxEntries) {
+		return new CachedValidation<>(compile(), maxEntries);
+	}
+
+	@Override
+	public FieldResult validate(String field, K param) {
+		return compile().validate(field, param);
+	}
 
-		return hasFailures ? FieldResult.fail(field, reasons) : FieldResult.ok(field);
+	// rules that never report were often given a null text; it stays allowed and reads as an empty reason
+	private static Message text(String onErrorMessage) {
+		return Message.text(onErrorMessage == null ? "" : onErrorMessage);
 	}
 
 }
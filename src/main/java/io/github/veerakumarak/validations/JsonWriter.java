@@ -0,0 +1,220 @@
+package io.github.veerakumarak.validations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes a {@link ValidationResult} as {@code {"field":["reason",...],...}}. Field names and messages are
+ * encoded to quoted, escaped UTF-8 once and reused, so writing to bytes only copies arrays.
+ */
+final class JsonWriter {
+
+	private static final int FIELD_CACHE_LIMIT = 4096;
+	private static final Map<String, byte[]> FIELD_NAMES = new ConcurrentHashMap<>();
+	private static final byte[] NULL_FIELD = encode("null");
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private JsonWriter() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	private interface ByteSink {
+		void write(byte[] bytes) throws IOException;
+
+		void write(char ascii) throws IOException;
+	}
+
+	static void write(ValidationResult result, OutputStream out) throws IOException {
+		write(result, new ByteSink() {
+			@Override
+			public void write(byte[] bytes) throws IOException {
+				out.write(bytes);
+			}
+
+			@Override
+			public void write(char ascii) throws IOException {
+				out.write(ascii);
+			}
+		});
+	}
+
+	static void write(ValidationResult result, ByteBuffer buffer) {
+		try {
+			write(result, new ByteSink() {
+				@Override
+				public void write(byte[] bytes) {
+					buffer.put(bytes);
+				}
+
+				@Override
+				public void write(char ascii) {
+					buffer.put((byte) ascii);
+				}
+			});
+		} catch (IOException e) {
+			throw new IllegalStateException("ByteBuffer writes do not throw IOException", e);
+		}
+	}
+
+	static byte[] toBytes(ValidationResult result) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+		try {
+			write(result, out);
+		} catch (IOException e) {
+			throw new IllegalStateException("ByteArrayOutputStream writes do not throw IOException", e);
+		}
+		return out.toByteArray();
+	}
+
+	static void write(ValidationResult result, Appendable out) throws IOException {
+		out.append('{');
+		for (int f = 0; f < result.fieldCount(); f++) {
+			if (f > 0) {
+				out.append(',');
+			}
+			appendString(result.field(f) == null ? "null" : result.field(f), out);
+			out.append(":[");
+			for (int m = result.messageStart(f); m < result.messageEnd(f); m++) {
+				if (m > result.messageStart(f)) {
+					out.append(',');
+				}
+				appendString(result.message(m).render(), out);
+			}
+			out.append(']');
+		}
+		out.append('}');
+	}
+
+	private static void write(ValidationResult result, ByteSink out) throws IOException {
+		out.write('{');
+		for (int f = 0; f < result.fieldCount(); f++) {
+			if (f > 0) {
+				out.write(',');
+			}
+			out.write(fieldName(result.field(f)));
+			out.write(':');
+			out.write('[');
+			for (int m = result.messageStart(f); m < result.messageEnd(f); m++) {
+				if (m > result.messageStart(f)) {
+					out.write(',');
+				}
+				out.write(result.message(m).json());
+			}
+			out.write(']');
+		}
+		out.write('}');
+	}
+
+	private static byte[] fieldName(String field) {
+		if (field == null) {
+			return NULL_FIELD;
+		}
+		byte[] encoded = FIELD_NAMES.get(field);
+		if (encoded == null) {
+			encoded = encode(field);
+			if (FIELD_NAMES.size() < FIELD_CACHE_LIMIT) {
+				FIELD_NAMES.putIfAbsent(field, encoded);
+			}
+		}
+		return encoded;
+	}
+
+	/**
+	 * Encodes {@code value} as a quoted JSON string in UTF-8.
+	 */
+	static byte[] encode(String value) {
+		byte[] out = new byte[value.length() + 2];
+		int n = 0;
+		out[n++] = '"';
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			// worst case is a 6 byte \\u escape, plus the closing quote
+			if (n + 7 > out.length) {
+				out = Arrays.copyOf(out, Math.max(out.length * 2, n + 7));
+			}
+			if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+				out[n++] = (byte) c;
+			} else if (c < 0x80) {
+				n = escape(c, out, n);
+			} else if (c < 0x800) {
+				out[n++] = (byte) (0xc0 | (c >> 6));
+				out[n++] = (byte) (0x80 | (c & 0x3f));
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+				int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				out[n++] = (byte) (0xf0 | (codePoint >> 18));
+				out[n++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+				out[n++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+				out[n++] = (byte) (0x80 | (codePoint & 0x3f));
+			} else if (Character.isSurrogate(c)) {
+				n = unicodeEscape(c, out, n);
+			} else {
+				out[n++] = (byte) (0xe0 | (c >> 12));
+				out[n++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+				out[n++] = (byte) (0x80 | (c & 0x3f));
+			}
+		}
+		out[n++] = '"';
+		return n == out.length ? out : Arrays.copyOf(out, n);
+	}
+
+	private static int escape(char c, byte[] out, int n) {
+		char shorthand = switch (c) {
+			case '"' -> '"';
+			case '\\' -> '\\';
+			case '\b' -> 'b';
+			case '\f' -> 'f';
+			case '\n' -> 'n';
+			case '\r' -> 'r';
+			case '\t' -> 't';
+			default -> 0;
+		};
+		if (shorthand == 0) {
+			return unicodeEscape(c, out, n);
+		}
+		out[n++] = '\\';
+		out[n++] = (byte) shorthand;
+		return n;
+	}
+
+	private static int unicodeEscape(char c, byte[] out, int n) {
+		out[n++] = '\\';
+		out[n++] = 'u';
+		out[n++] = (byte) HEX[(c >> 12) & 0xf];
+		out[n++] = (byte) HEX[(c >> 8) & 0xf];
+		out[n++] = (byte) HEX[(c >> 4) & 0xf];
+		out[n++] = (byte) HEX[c & 0xf];
+		return n;
+	}
+
+	private static void appendString(String value, Appendable out) throws IOException {
+		out.append('"');
+		int start = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < 0x20 || c == '"' || c == '\\' || (Character.isSurrogate(c) && !isPairedSurrogate(value, i))) {
+				out.append(value, start, i);
+				byte[] escaped = new byte[6];
+				int n = c < 0x80 ? escape(c, escaped, 0) : unicodeEscape(c, escaped, 0);
+				for (int b = 0; b < n; b++) {
+					out.append((char) escaped[b]);
+				}
+				start = i + 1;
+			} else if (Character.isHighSurrogate(c)) {
+				i++;
+			}
+		}
+		out.append(value, start, value.length());
+		out.append('"');
+	}
+
+	private static boolean isPairedSurrogate(String value, int i) {
+		char c = value.charAt(i);
+		return Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1));
+	}
+
+}
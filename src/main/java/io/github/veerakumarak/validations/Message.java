@@ -0,0 +1,100 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Failure message of a rule, kept as a code, a {@link String#format} template and its arguments. The text
+ * is only rendered when a failure is reported and is cached afterwards. The code and arguments let an
+ * i18n layer render its own text instead.
+ */
+public final class Message {
+
+	private static final Object[] NO_ARGS = new Object[0];
+
+	private final String code;
+	private final String template;
+	private final Object[] args;
+
+	// racy single-check caching is fine, the cached values are never mutated
+	private String rendered;
+	private byte[] json;
+
+	private Message(String code, String template, Object[] args) {
+		this.code = code;
+		this.template = Objects.requireNonNull(template, "Template cannot be null.");
+		this.args = args;
+	}
+
+	public static Message of(String code, String template, Object... args) {
+		return new Message(code, template, args.length == 0 ? NO_ARGS : args.clone());
+	}
+
+	/**
+	 * A message without code or arguments, rendered as {@code text}.
+	 */
+	public static Message text(String text) {
+		Message message = new Message(null, text, NO_ARGS);
+		message.rendered = text;
+		return message;
+	}
+
+	/**
+	 * Stable identifier of the rule, e.g. {@code string.minLength}; {@code null} for plain text messages.
+	 */
+	public String code() {
+		return code;
+	}
+
+	public String template() {
+		return template;
+	}
+
+	public List<Object> args() {
+		return Arrays.asList(args.clone());
+	}
+
+	public String render() {
+		String text = rendered;
+		if (text == null) {
+			text = String.format(template, args);
+			rendered = text;
+		}
+		return text;
+	}
+
+	/**
+	 * The rendered text as a quoted, escaped JSON string in UTF-8.
+	 */
+	byte[] json() {
+		byte[] bytes = json;
+		if (bytes == null) {
+			bytes = JsonWriter.encode(render());
+			json = bytes;
+		}
+		return bytes;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof Message other)) {
+			return false;
+		}
+		return Objects.equals(code, other.code) && template.equals(other.template) && Arrays.equals(args, other.args);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Objects.hash(code, template) + Arrays.hashCode(args);
+	}
+
+	@Override
+	public String toString() {
+		return render();
+	}
+
+}
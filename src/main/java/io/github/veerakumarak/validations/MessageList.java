@@ -0,0 +1,44 @@
+package io.github.veerakumarak.validations;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Reasons list backed by {@link Message}s; each message is rendered when its element is read.
+ */
+final class MessageList extends AbstractList<String> implements RandomAccess {
+
+	private final List<Message> messages;
+
+	MessageList(List<Message> messages) {
+		this.messages = messages;
+	}
+
+	static List<Message> messagesOf(List<String> reasons) {
+		if (reasons instanceof MessageList list) {
+			return List.copyOf(list.messages);
+		}
+		List<Message> messages = new ArrayList<>(reasons.size());
+		for (String reason : reasons) {
+			messages.add(Message.text(reason));
+		}
+		return List.copyOf(messages);
+	}
+
+	List<Message> messages() {
+		return messages;
+	}
+
+	@Override
+	public String get(int index) {
+		return messages.get(index).render();
+	}
+
+	@Override
+	public int size() {
+		return messages.size();
+	}
+
+}
@@ -0,0 +1,183 @@
+package io.github.veerakumarak.validations;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Predicate;
+
+/**
+ * Builds the {@link CompilationMode#GENERATED} fast path of a {@link ValidationPlan}: a {@code (Object)boolean}
+ * {@link MethodHandle} that is true exactly when the plan reports no failure, wrapped in a hidden class.
+ * <p>
+ * Every rule is a {@code guardWithTest} over its predicate bound as a constant receiver, so the JIT sees
+ * one monomorphic call per rule and, since lambdas are hidden classes with trusted final fields, folds their
+ * captured bounds too. The hidden class loads the tree as its class data through a dynamic constant, which is
+ * what lets the JIT treat the whole tree as a constant; a handle kept in an ordinary field would not be.
+ */
+final class PlanGenerator {
+
+	// deeper trees cost more to link than the interpreter saves
+	static final int MAX_RULES = 64;
+
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+	private static final String CLASS_NAME = PlanGenerator.class.getPackageName().replace('.', '/') + "/GeneratedPlan";
+	private static final byte[] CLASS_BYTES = classBytes();
+
+	private static final MethodHandle TEST;
+	private static final MethodHandle VALID = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class);
+	private static final MethodHandle INVALID = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class);
+
+	static {
+		try {
+			TEST = LOOKUP.findVirtual(Predicate.class, "test", MethodType.methodType(boolean.class, Object.class));
+		} catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private PlanGenerator() {
+	}
+
+	/**
+	 * The fast path for a plan, or null when the chain is too long or the runtime refuses to define the class,
+	 * in which case the plan keeps interpreting.
+	 */
+	@SuppressWarnings("unchecked")
+	static <K> Predicate<K> generate(Predicate<K>[] predicates, boolean[] reports, int[] onPass, int[] onFail) {
+		int size = predicates.length;
+		if (size > MAX_RULES) {
+			return null;
+		}
+		// jump targets only point forward, so each node is built after the nodes it branches to
+		MethodHandle[] nodes = new MethodHandle[size + 1];
+		nodes[size] = VALID;
+		for (int i = size - 1; i >= 0; i--) {
+			MethodHandle failed = reports[i] ? INVALID : nodes[onFail[i]];
+			nodes[i] = MethodHandles.guardWithTest(TEST.bindTo(predicates[i]), nodes[onPass[i]], failed);
+		}
+		try {
+			MethodHandles.Lookup generated = LOOKUP.defineHiddenClassWithClassData(CLASS_BYTES, nodes[0], true);
+			return (Predicate<K>) generated.findConstructor(generated.lookupClass(), MethodType.methodType(void.class)).invoke();
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/*
+	 * final class GeneratedPlan implements Predicate {
+	 *     public boolean test(Object value) {
+	 *         return (boolean) ((MethodHandle) MethodHandles.classData(lookup, "_", MethodHandle.class)).invokeExact(value);
+	 *     }
+	 * }
+	 * with the class data loaded once by an ldc of a dynamic constant. The same bytes serve every plan, only the
+	 * class data differs. There are no branches, so no stack map frames are needed.
+	 */
+	private static byte[] classBytes() {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(61); // Java 17
+
+			out.writeShort(31); // constant pool count, entries 1 to 30
+			utf8(out, CLASS_NAME);                               // 1
+			reference(out, 7, 1);                                // 2 this class
+			utf8(out, "java/lang/Object");                       // 3
+			reference(out, 7, 3);                                // 4 super class
+			utf8(out, "java/util/function/Predicate");           // 5
+			reference(out, 7, 5);                                // 6 interface
+			utf8(out, "<init>");                                 // 7
+			utf8(out, "()V");                                    // 8
+			pair(out, 12, 7, 8);                                 // 9
+			pair(out, 10, 4, 9);                                 // 10 Object.<init>
+			utf8(out, "test");                                   // 11
+			utf8(out, "(Ljava/lang/Object;)Z");                  // 12
+			utf8(out, "Code");                                   // 13
+			utf8(out, "java/lang/invoke/MethodHandles");         // 14
+			reference(out, 7, 14);                               // 15
+			utf8(out, "classData");                              // 16
+			utf8(out, "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;"); // 17
+			pair(out, 12, 16, 17);                               // 18
+			pair(out, 10, 15, 18);                               // 19 MethodHandles.classData
+			out.writeByte(15);                                   // 20 method handle, REF_invokeStatic
+			out.writeByte(6);
+			out.writeShort(19);
+			utf8(out, "_");                                      // 21
+			utf8(out, "Ljava/lang/invoke/MethodHandle;");        // 22
+			pair(out, 12, 21, 22);                               // 23
+			pair(out, 17, 0, 23);                                // 24 dynamic constant, bootstrap method 0
+			utf8(out, "java/lang/invoke/MethodHandle");          // 25
+			reference(out, 7, 25);                               // 26
+			utf8(out, "invokeExact");                            // 27
+			pair(out, 12, 27, 12);                               // 28
+			pair(out, 10, 26, 28);                               // 29 MethodHandle.invokeExact(Object)boolean
+			utf8(out, "BootstrapMethods");                       // 30
+
+			out.writeShort(0x0031); // public final super
+			out.writeShort(2);
+			out.writeShort(4);
+			out.writeShort(1);
+			out.writeShort(6);
+			out.writeShort(0); // fields
+
+			out.writeShort(2); // methods
+			method(out, 7, 8, 1, 1, new byte[]{
+					0x2A,                   // aload_0
+					(byte) 0xB7, 0, 10,     // invokespecial Object.<init>
+					(byte) 0xB1             // return
+			});
+			method(out, 11, 12, 2, 2, new byte[]{
+					0x13, 0, 24,            // ldc_w class data
+					0x2B,                   // aload_1
+					(byte) 0xB6, 0, 29,     // invokevirtual invokeExact
+					(byte) 0xAC             // ireturn
+			});
+
+			out.writeShort(1); // class attributes
+			out.writeShort(30);
+			out.writeInt(6);
+			out.writeShort(1);
+			out.writeShort(20);
+			out.writeShort(0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static void utf8(DataOutputStream out, String value) throws IOException {
+		out.writeByte(1);
+		out.writeUTF(value);
+	}
+
+	private static void reference(DataOutputStream out, int tag, int index) throws IOException {
+		out.writeByte(tag);
+		out.writeShort(index);
+	}
+
+	private static void pair(DataOutputStream out, int tag, int first, int second) throws IOException {
+		out.writeByte(tag);
+		out.writeShort(first);
+		out.writeShort(second);
+	}
+
+	private static void method(DataOutputStream out, int name, int descriptor, int maxStack, int maxLocals, byte[] code) throws IOException {
+		out.writeShort(0x0001); // public
+		out.writeShort(name);
+		out.writeShort(descriptor);
+		out.writeShort(1);
+		out.writeShort(13);
+		out.writeInt(12 + code.length);
+		out.writeShort(maxStack);
+		out.writeShort(maxLocals);
+		out.writeInt(code.length);
+		out.write(code);
+		out.writeShort(0); // exception table
+		out.writeShort(0); // attributes
+	}
+
+}
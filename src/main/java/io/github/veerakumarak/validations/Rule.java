@@ -0,0 +1,27 @@
+package io.github.veerakumarak.validations;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * One link of a validator chain. Links point at the rule added before them, so every builder step
+ * shares the existing chain and appends in O(1); {@link ValidationPlan} flattens it once.
+ * <p>
+ * {@code describeFailure} is optional; when set it replaces {@code onErrorMessage} in the reported
+ * reasons with messages computed from the failing value.
+ */
+record Rule<K>(Rule<K> previous, int size, Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage,
+			   Function<? super K, List<Message>> describeFailure) {
+
+	static <K> Rule<K> first(Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage,
+							 Function<? super K, List<Message>> describeFailure) {
+		return new Rule<>(null, 1, predicate, terminate, errorOn, onErrorMessage, describeFailure);
+	}
+
+	Rule<K> then(Predicate<K> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage,
+				 Function<? super K, List<Message>> describeFailure) {
+		return new Rule<>(this, size + 1, predicate, terminate, errorOn, onErrorMessage, describeFailure);
+	}
+
+}
@@ -0,0 +1,206 @@
+package io.github.veerakumarak.validations;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Rewrites a plan into a cheaper program that only answers whether a value is valid. Runs of consecutive
+ * {@link Constraint} rules that report their failure and do not terminate are treated as one conjunction:
+ * ranges on the same subject are intersected, bounds and inequalities implied by others are dropped,
+ * contradictions become a rule that always fails, and what remains is sorted by cost.
+ * <p>
+ * Any other rule, including every user predicate, stays where it is and keeps constraints from moving across it.
+ * The reasons of an invalid value still come from the original rules, so nothing observable changes.
+ */
+final class RuleOptimizer {
+
+	private static final Predicate<Object> NEVER = value -> false;
+
+	/**
+	 * The rewritten rules, in the same array form as a {@link ValidationPlan}.
+	 */
+	record Program<K>(Predicate<K>[] predicates, boolean[] reports, int[] onPass, int[] onFail, List<String> contradictions)
+			implements Predicate<K> {
+
+		@Override
+		public boolean test(K value) {
+			int i = 0;
+			while (i < predicates.length) {
+				if (predicates[i].test(value)) {
+					i = onPass[i];
+				} else if (reports[i]) {
+					return false;
+				} else {
+					i = onFail[i];
+				}
+			}
+			return true;
+		}
+
+	}
+
+	private RuleOptimizer() {
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static <K> Program<K> optimize(Predicate<K>[] predicates, boolean[] reports, int[] onPass, int[] onFail, String[] names) {
+		int size = predicates.length;
+		List<Predicate<K>> rules = new ArrayList<>(size);
+		List<Boolean> reported = new ArrayList<>(size);
+		// jump targets as old indices, null for a rewritten run, whose rules fall through to the next
+		List<int[]> targets = new ArrayList<>(size);
+		List<String> contradictions = new ArrayList<>();
+		// new index of every rule that starts a run or is kept as is
+		int[] newIndex = new int[size + 1];
+
+		int i = 0;
+		while (i < size) {
+			newIndex[i] = rules.size();
+			int end = i;
+			while (end < size && isMergeable(predicates, reports, onPass, onFail, end)) {
+				end++;
+			}
+			if (end == i) {
+				rules.add(predicates[i]);
+				reported.add(reports[i]);
+				targets.add(new int[]{onPass[i], onFail[i]});
+				i++;
+				continue;
+			}
+			for (Predicate<K> rule : conjunction(predicates, names, i, end, contradictions)) {
+				rules.add(rule);
+				reported.add(true);
+				targets.add(null);
+			}
+			i = end;
+		}
+		newIndex[size] = rules.size();
+
+		int count = rules.size();
+		Predicate<K>[] outPredicates = rules.toArray(new Predicate[count]);
+		boolean[] outReports = new boolean[count];
+		int[] outPass = new int[count];
+		int[] outFail = new int[count];
+		for (int j = 0; j < count; j++) {
+			outReports[j] = reported.get(j);
+			int[] target = targets.get(j);
+			outPass[j] = target == null ? j + 1 : newIndex[target[0]];
+			outFail[j] = target == null ? j + 1 : newIndex[target[1]];
+		}
+		return new Program<>(outPredicates, outReports, outPass, outFail, List.copyOf(contradictions));
+	}
+
+	private static <K> boolean isMergeable(Predicate<K>[] predicates, boolean[] reports, int[] onPass, int[] onFail, int i) {
+		return predicates[i] instanceof Constraint && reports[i] && onPass[i] == i + 1 && onFail[i] == i + 1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K> List<Predicate<K>> conjunction(Predicate<K>[] predicates, String[] names, int from, int to, List<String> contradictions) {
+		Map<String, List<Integer>> subjects = new LinkedHashMap<>();
+		List<Constraint<K>> merged = new ArrayList<>();
+		for (int i = from; i < to; i++) {
+			Constraint<K> constraint = (Constraint<K>) predicates[i];
+			if (constraint.kind == Constraint.Kind.OTHER) {
+				merged.add(constraint);
+			} else {
+				subjects.computeIfAbsent(constraint.subject, subject -> new ArrayList<>()).add(i);
+			}
+		}
+		for (List<Integer> rules : subjects.values()) {
+			if (!merge(predicates, rules, merged)) {
+				List<String> conflicting = new ArrayList<>(rules.size());
+				for (int i : rules) {
+					conflicting.add(names[i]);
+				}
+				contradictions.add("no value passes all of " + conflicting);
+				return List.of((Predicate<K>) NEVER);
+			}
+		}
+		// stable, so rules of equal cost keep the order they were written in
+		merged.sort(Comparator.comparingInt(constraint -> constraint.cost));
+		return new ArrayList<>(merged);
+	}
+
+	/**
+	 * Adds the constraints equivalent to {@code rules}, all on one subject, to {@code out}; false when no value passes them.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <K> boolean merge(Predicate<K>[] predicates, List<Integer> rules, List<Constraint<K>> out) {
+		long min = Long.MIN_VALUE;
+		long max = Long.MAX_VALUE;
+		Constraint<K> range = null;
+		int ranges = 0;
+		Constraint<K> equal = null;
+		List<Constraint<K>> notEquals = new ArrayList<>();
+
+		for (int i : rules) {
+			Constraint<K> constraint = (Constraint<K>) predicates[i];
+			switch (constraint.kind) {
+				case RANGE -> {
+					min = Math.max(min, constraint.min);
+					max = Math.min(max, constraint.max);
+					range = range == null ? constraint : range;
+					ranges++;
+				}
+				case EQUAL -> {
+					if (equal != null && !equal.value.equals(constraint.value)) {
+						return false;
+					}
+					equal = equal == null ? constraint : equal;
+				}
+				default -> notEquals.add(constraint);
+			}
+		}
+		if (min > max) {
+			return false;
+		}
+
+		boolean numeric = equal != null && range != null && equal.value instanceof Long;
+		if (numeric) {
+			long value = (Long) equal.value;
+			if (value < min || value > max) {
+				return false;
+			}
+		}
+		List<Object> excluded = new ArrayList<>(notEquals.size());
+		for (Constraint<K> notEqual : notEquals) {
+			if (equal != null) {
+				// the equality decides alone, unless it names the excluded value
+				if (equal.value.equals(notEqual.value)) {
+					return false;
+				}
+				continue;
+			}
+			if (range != null && notEqual.value instanceof Long value) {
+				if (value < min || value > max) {
+					continue;
+				}
+				if (min == max) {
+					return false;
+				}
+			}
+			if (!excluded.contains(notEqual.value)) {
+				excluded.add(notEqual.value);
+				out.add(notEqual);
+			}
+		}
+
+		if (equal != null) {
+			out.add(equal);
+			if (numeric) {
+				return true;
+			}
+		}
+		if (ranges == 1) {
+			out.add(range);
+		} else if (ranges > 1) {
+			out.add(Constraint.<K>range(range.subject, range.measure, min, max));
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,108 @@
+package io.github.veerakumarak.validations;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable set of validators keyed by name, with optional per-tenant replacements. Published through a
+ * {@link ValidatorRegistry}; a new rule set is built for every change and swapped in as a whole.
+ */
+public final class RuleSet {
+
+	private static final RuleSet EMPTY = new RuleSet(Map.of(), Map.of());
+
+	private final Map<String, IValidation<?>> defaults;
+	private final Map<String, Map<String, IValidation<?>>> tenants;
+
+	private RuleSet(Map<String, IValidation<?>> defaults, Map<String, Map<String, IValidation<?>>> tenants) {
+		this.defaults = defaults;
+		this.tenants = tenants;
+	}
+
+	public static RuleSet empty() {
+		return EMPTY;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * A builder holding this rule set's validators, to derive a changed copy.
+	 */
+	public Builder toBuilder() {
+		Builder builder = new Builder();
+		builder.defaults.putAll(defaults);
+		tenants.forEach((tenant, validations) -> builder.tenants.put(tenant, new HashMap<>(validations)));
+		return builder;
+	}
+
+	/**
+	 * The validator registered under {@code name}, or null.
+	 */
+	@SuppressWarnings("unchecked")
+	public <K> IValidation<K> find(String name) {
+		return (IValidation<K>) defaults.get(name);
+	}
+
+	/**
+	 * The validator {@code tenant} registered for {@code field}, else the one registered under {@code field}, or null.
+	 */
+	@SuppressWarnings("unchecked")
+	public <K> IValidation<K> find(String tenant, String field) {
+		Map<String, IValidation<?>> overrides = tenants.get(tenant);
+		IValidation<?> validation = overrides == null ? null : overrides.get(field);
+		return (IValidation<K>) (validation != null ? validation : defaults.get(field));
+	}
+
+	public Set<String> names() {
+		return defaults.keySet();
+	}
+
+	public Set<String> tenants() {
+		return tenants.keySet();
+	}
+
+	public static final class Builder {
+
+		private final Map<String, IValidation<?>> defaults = new HashMap<>();
+		private final Map<String, Map<String, IValidation<?>>> tenants = new HashMap<>();
+
+		private Builder() {
+		}
+
+		public Builder add(String name, IValidation<?> validation) {
+			defaults.put(name, frozen(validation));
+			return this;
+		}
+
+		public Builder add(String tenant, String field, IValidation<?> validation) {
+			tenants.computeIfAbsent(tenant, t -> new HashMap<>()).put(field, frozen(validation));
+			return this;
+		}
+
+		public Builder remove(String name) {
+			defaults.remove(name);
+			return this;
+		}
+
+		public Builder removeTenant(String tenant) {
+			tenants.remove(tenant);
+			return this;
+		}
+
+		public RuleSet build() {
+			Map<String, Map<String, IValidation<?>>> frozenTenants = new HashMap<>();
+			tenants.forEach((tenant, validations) -> frozenTenants.put(tenant, Map.copyOf(validations)));
+			return new RuleSet(Map.copyOf(defaults), Map.copyOf(frozenTenants));
+		}
+
+		// compiled here, once, rather than racily on the first request of every reader
+		private static IValidation<?> frozen(IValidation<?> validation) {
+			return validation instanceof FieldValidator<?> chain ? chain.compile() : validation;
+		}
+
+	}
+
+}
@@ -0,0 +1,438 @@
+package io.github.veerakumarak.validations;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Validation of a whole object. Each field binds a getter to an {@link IValidation}; {@link #validate(Object)}
+ * runs them in declaration order and writes the failures straight into a {@link ValidationResult}.
+ *
+ * <pre>{@code
+ * Schema<User> schema = Schema.<User>builder()
+ *         .field("name", User::name, StringFieldValidator.nonNull().minLength(3))
+ *         .field("age", User::age, IntegerFieldValidator.nonNull().greaterThan(18))
+ *         .build();
+ *
+ * // records can bind their components by name
+ * Schema<User> schema = Schema.forRecord(User.class)
+ *         .field("name", StringFieldValidator.nonNull().minLength(3))
+ *         .build();
+ *
+ * // nested objects and elements report paths such as "items[3].sku"
+ * Schema<Order> order = Schema.<Order>builder()
+ *         .nested("customer", Order::customer, customerSchema)
+ *         .each("items", Order::items, itemSchema)
+ *         .build();
+ * }</pre>
+ */
+public final class Schema<T> {
+
+	// accessors of record components, resolved once per record class
+	private static final ClassValue<Map<String, Function<Object, Object>>> RECORD_ACCESSORS = new ClassValue<>() {
+		@Override
+		protected Map<String, Function<Object, Object>> computeValue(Class<?> type) {
+			Map<String, Function<Object, Object>> accessors = new HashMap<>();
+			for (RecordComponent component : type.getRecordComponents()) {
+				accessors.put(component.getName(), accessor(type, component));
+			}
+			return Map.copyOf(accessors);
+		}
+	};
+
+	private final Binding<T>[] bindings;
+
+	private interface Binding<T> {
+
+		/**
+		 * Adds at most {@code budget} failures of {@code value} to {@code out} and returns how many were added.
+		 * {@code path} is null at the root of the schema.
+		 */
+		int validate(T value, FieldPath path, ValidationResult.Builder out, int budget);
+
+	}
+
+	private record FieldBinding<T, V>(String field, Function<? super T, ? extends V> getter, IValidation<V> validation) implements Binding<T> {
+
+		@Override
+		public int validate(T value, FieldPath path, ValidationResult.Builder out, int budget) {
+			FieldResult result = validation.validate(field, getter.apply(value));
+			if (result.valid()) {
+				return 0;
+			}
+			if (path == null) {
+				out.add(result);
+			} else {
+				out.add(path.resolve(field), result.reasons());
+			}
+			return 1;
+		}
+
+	}
+
+	private record NestedBinding<T, V>(String field, Function<? super T, ? extends V> getter, Schema<V> schema) implements Binding<T> {
+
+		@Override
+		public int validate(T value, FieldPath path, ValidationResult.Builder out, int budget) {
+			V nested = getter.apply(value);
+			if (nested == null) {
+				return 0;
+			}
+			FieldPath at = path == null ? new FieldPath() : path;
+			at.push(field);
+			int failures = schema.validate(nested, at, out, budget);
+			at.pop();
+			return failures;
+		}
+
+	}
+
+	private record EachBinding<T, V>(String field, Function<? super T, ? extends Iterable<? extends V>> getter, Schema<V> schema) implements Binding<T> {
+
+		@Override
+		public int validate(T value, FieldPath path, ValidationResult.Builder out, int budget) {
+			Iterable<? extends V> elements = getter.apply(value);
+			if (elements == null) {
+				return 0;
+			}
+			FieldPath at = path == null ? new FieldPath() : path;
+			at.push(field);
+			int failures = 0;
+			int i = 0;
+			for (V element : elements) {
+				if (element != null) {
+					at.push(i);
+					failures += schema.validate(element, at, out, budget - failures);
+					at.pop();
+					if (failures >= budget) {
+						break;
+					}
+				}
+				i++;
+			}
+			at.pop();
+			return failures;
+		}
+
+	}
+
+	private record EachValueBinding<T, V>(String field, Function<? super T, ? extends Iterable<? extends V>> getter, IValidation<V> validation) implements Binding<T> {
+
+		@Override
+		public int validate(T value, FieldPath path, ValidationResult.Builder out, int budget) {
+			Iterable<? extends V> elements = getter.apply(value);
+			if (elements == null) {
+				return 0;
+			}
+			FieldPath at = path;
+			int failures = 0;
+			int i = 0;
+			for (V element : elements) {
+				// the plain field name keeps valid elements on the shared FieldResult.ok instance
+				FieldResult result = validation.validate(field, element);
+				if (!result.valid()) {
+					if (at == null) {
+						at = new FieldPath();
+					}
+					at.push(field);
+					at.push(i);
+					out.add(at.resolve(null), result.reasons());
+					at.pop();
+					at.pop();
+					if (++failures >= budget) {
+						break;
+					}
+				}
+				i++;
+			}
+			return failures;
+		}
+
+	}
+
+	private Schema(Binding<T>[] bindings) {
+		this.bindings = bindings;
+	}
+
+	public static <T> Builder<T> builder() {
+		return new Builder<>(null);
+	}
+
+	/**
+	 * Starts a schema whose fields can also be bound by record component name.
+	 */
+	public static <T extends Record> Builder<T> forRecord(Class<T> type) {
+		Objects.requireNonNull(type, "Record type cannot be null.");
+		return new Builder<>(RECORD_ACCESSORS.get(type));
+	}
+
+	public ValidationResult validate(T value) {
+		Objects.requireNonNull(value, "Value cannot be null.");
+		ValidationResult.Builder result = ValidationResult.builder();
+		validate(value, null, result, Integer.MAX_VALUE);
+		return result.build();
+	}
+
+	/**
+	 * Validates fields in declaration order and stops once {@code maxFailures} of them were invalid.
+	 * Fields of nested objects and elements count one each.
+	 */
+	public ValidationResult validate(T value, int maxFailures) {
+		Objects.requireNonNull(value, "Value cannot be null.");
+		if (maxFailures <= 0) {
+			throw new IllegalArgumentException("maxFailures must be positive");
+		}
+		ValidationResult.Builder result = ValidationResult.builder();
+		validate(value, null, result, maxFailures);
+		return result.build();
+	}
+
+	private int validate(T value, FieldPath path, ValidationResult.Builder out, int budget) {
+		int failures = 0;
+		for (Binding<T> binding : bindings) {
+			failures += binding.validate(value, path, out, budget - failures);
+			if (failures >= budget) {
+				break;
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Validates every record in iteration order on the calling thread.
+	 */
+	public BatchResult validateAll(Collection<? extends T> values) {
+		Objects.requireNonNull(values, "Values cannot be null.");
+		return validateAll(values.iterator(), FailurePolicy.all());
+	}
+
+	/**
+	 * Validates every record of {@code values} in encounter order on the calling thread.
+	 */
+	public BatchResult validateAll(Stream<? extends T> values) {
+		return validateAll(values, FailurePolicy.all());
+	}
+
+	/**
+	 * Validates records of {@code values} in encounter order until {@code policy} says to stop. Only the
+	 * failures kept by the policy are retained, so unbounded streams can be validated in bounded memory.
+	 */
+	public BatchResult validateAll(Stream<? extends T> values, FailurePolicy policy) {
+		Objects.requireNonNull(values, "Values cannot be null.");
+		return validateAll(values.sequential().iterator(), policy);
+	}
+
+	/**
+	 * Validates records of {@code values} until {@code policy} says to stop.
+	 */
+	public BatchResult validateAll(Iterator<? extends T> values, FailurePolicy policy) {
+		Objects.requireNonNull(values, "Values cannot be null.");
+		Objects.requireNonNull(policy, "Policy cannot be null.");
+		StreamingCollector failures = new StreamingCollector(policy);
+		while (values.hasNext()) {
+			if (!failures.add(validate(values.next()))) {
+				break;
+			}
+		}
+		return failures.toResult();
+	}
+
+	/**
+	 * Returns a subscriber that validates the records of a {@link java.util.concurrent.Flow.Publisher}.
+	 */
+	public ValidatingSubscriber<T> subscriber(FailurePolicy policy) {
+		Objects.requireNonNull(policy, "Policy cannot be null.");
+		return new ValidatingSubscriber<>(this, policy);
+	}
+
+	/**
+	 * Validates {@code values} in chunks of {@code chunkSize} records on the common {@link ForkJoinPool}.
+	 */
+	public BatchResult validateAll(List<? extends T> values, int chunkSize) {
+		return validateAll(values, chunkSize, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Validates {@code values} in chunks of {@code chunkSize} records on {@code executor}. A {@link ForkJoinPool}
+	 * splits the list recursively; any other executor gets one task per chunk. Failures are reported in input order.
+	 */
+	public BatchResult validateAll(List<? extends T> values, int chunkSize, Executor executor) {
+		Objects.requireNonNull(values, "Values cannot be null.");
+		Objects.requireNonNull(executor, "Executor cannot be null.");
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive");
+		}
+		List<? extends T> records = values instanceof RandomAccess ? values : new ArrayList<>(values);
+
+		BatchCollector failures;
+		if (records.size() <= chunkSize) {
+			failures = validateRange(records, 0, records.size());
+		} else if (executor instanceof ForkJoinPool pool) {
+			failures = pool.invoke(new ValidateTask(records, 0, records.size(), chunkSize));
+		} else {
+			List<CompletableFuture<BatchCollector>> chunks = new ArrayList<>();
+			for (int from = 0; from < records.size(); from += chunkSize) {
+				int start = from;
+				int end = Math.min(records.size(), from + chunkSize);
+				chunks.add(CompletableFuture.supplyAsync(() -> validateRange(records, start, end), executor));
+			}
+			failures = new BatchCollector();
+			for (CompletableFuture<BatchCollector> chunk : chunks) {
+				failures.addAll(chunk.join());
+			}
+		}
+		return failures.toResult(records.size());
+	}
+
+	private BatchCollector validateRange(List<? extends T> values, int from, int to) {
+		BatchCollector failures = new BatchCollector();
+		for (int i = from; i < to; i++) {
+			ValidationResult result = validate(values.get(i));
+			if (!result.valid()) {
+				failures.add(i, result);
+			}
+		}
+		return failures;
+	}
+
+	// never serialized, it holds the enclosing schema and the records
+	@SuppressWarnings("serial")
+	private final class ValidateTask extends RecursiveTask<BatchCollector> {
+
+		private final List<? extends T> values;
+		private final int from;
+		private final int to;
+		private final int chunkSize;
+
+		private ValidateTask(List<? extends T> values, int from, int to, int chunkSize) {
+			this.values = values;
+			this.from = from;
+			this.to = to;
+			this.chunkSize = chunkSize;
+		}
+
+		@Override
+		protected BatchCollector compute() {
+			if (to - from <= chunkSize) {
+				return validateRange(values, from, to);
+			}
+			int middle = (from + to) >>> 1;
+			ValidateTask left = new ValidateTask(values, from, middle, chunkSize);
+			left.fork();
+			BatchCollector right = new ValidateTask(values, middle, to, chunkSize).compute();
+			return left.join().addAll(right);
+		}
+
+	}
+
+	public static final class Builder<T> {
+
+		private final Map<String, Function<Object, Object>> components;
+		private final List<Binding<T>> bindings = new ArrayList<>();
+
+		private Builder(Map<String, Function<Object, Object>> components) {
+			this.components = components;
+		}
+
+		public <V> Builder<T> field(String field, Function<? super T, ? extends V> getter, IValidation<V> validation) {
+			Objects.requireNonNull(field, "Field cannot be null.");
+			Objects.requireNonNull(getter, "Getter cannot be null.");
+			Objects.requireNonNull(validation, "Validation cannot be null.");
+			bindings.add(new FieldBinding<>(field, getter, validation));
+			return this;
+		}
+
+		/**
+		 * Validates the object returned by {@code getter} with {@code schema}; its failures are reported
+		 * as {@code field.nestedField}. A null object is skipped, bind a {@code nonNull} rule to require it.
+		 */
+		public <V> Builder<T> nested(String field, Function<? super T, ? extends V> getter, Schema<V> schema) {
+			Objects.requireNonNull(field, "Field cannot be null.");
+			Objects.requireNonNull(getter, "Getter cannot be null.");
+			Objects.requireNonNull(schema, "Schema cannot be null.");
+			bindings.add(new NestedBinding<>(field, getter, schema));
+			return this;
+		}
+
+		/**
+		 * Validates every element returned by {@code getter} with {@code schema}; failures are reported as
+		 * {@code field[index].nestedField}. Null collections and null elements are skipped.
+		 */
+		public <V> Builder<T> each(String field, Function<? super T, ? extends Iterable<? extends V>> getter, Schema<V> schema) {
+			Objects.requireNonNull(field, "Field cannot be null.");
+			Objects.requireNonNull(getter, "Getter cannot be null.");
+			Objects.requireNonNull(schema, "Schema cannot be null.");
+			bindings.add(new EachBinding<>(field, getter, schema));
+			return this;
+		}
+
+		/**
+		 * Validates every element returned by {@code getter} with {@code validation}; failures are reported
+		 * as {@code field[index]}. A null collection is skipped.
+		 */
+		public <V> Builder<T> each(String field, Function<? super T, ? extends Iterable<? extends V>> getter, IValidation<V> validation) {
+			Objects.requireNonNull(field, "Field cannot be null.");
+			Objects.requireNonNull(getter, "Getter cannot be null.");
+			Objects.requireNonNull(validation, "Validation cannot be null.");
+			bindings.add(new EachValueBinding<>(field, getter, validation));
+			return this;
+		}
+
+		/**
+		 * Binds the record component called {@code component}; the validation must accept the component's type.
+		 */
+		@SuppressWarnings("unchecked")
+		public <V> Builder<T> field(String component, IValidation<V> validation) {
+			if (components == null) {
+				throw new IllegalStateException("Fields can only be bound by name on schemas created with forRecord");
+			}
+			Function<Object, Object> accessor = components.get(component);
+			if (accessor == null) {
+				throw new IllegalArgumentException("Unknown record component: " + component);
+			}
+			return field(component, (Function<? super T, ? extends V>) accessor, validation);
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		public Schema<T> build() {
+			return new Schema<>(bindings.toArray(new Binding[0]));
+		}
+
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> accessor(Class<?> type, RecordComponent component) {
+		try {
+			MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			MethodHandle getter = lookup.unreflect(component.getAccessor());
+			// spin a real Function so the JIT sees a plain virtual call instead of a MethodHandle invocation
+			return (Function<Object, Object>) LambdaMetafactory.metafactory(
+					lookup,
+					"apply",
+					MethodType.methodType(Function.class),
+					MethodType.methodType(Object.class, Object.class),
+					getter,
+					getter.type().wrap().changeReturnType(Object.class)
+			).getTarget().invokeExact();
+		} catch (Throwable e) {
+			throw new IllegalArgumentException("Cannot access record component " + type.getName() + "." + component.getName(), e);
+		}
+	}
+
+}
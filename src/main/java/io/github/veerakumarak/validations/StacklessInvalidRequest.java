@@ -0,0 +1,25 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.fp.failures.InvalidRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link InvalidRequest} that skips {@link #fillInStackTrace()}. Validation failures are expected input
+ * errors, and walking the stack dominates the cost of creating them when many requests are rejected.
+ */
+final class StacklessInvalidRequest extends InvalidRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	StacklessInvalidRequest(Map<String, List<String>> reasons) {
+		super(reasons);
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+}
@@ -0,0 +1,36 @@
+package io.github.veerakumarak.validations;
+
+/**
+ * Applies a {@link FailurePolicy} to results arriving one at a time.
+ */
+final class StreamingCollector {
+
+	private final FailurePolicy policy;
+	private final BatchCollector kept = new BatchCollector();
+	private long total;
+	private long failed;
+
+	StreamingCollector(FailurePolicy policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Records the result of the next input and returns {@code false} once the policy says to stop.
+	 */
+	boolean add(ValidationResult result) {
+		long index = total++;
+		if (result.valid()) {
+			return true;
+		}
+		failed++;
+		if (kept.size() < policy.keep()) {
+			kept.add(index, result);
+		}
+		return !(policy.stopWhenFull() && kept.size() >= policy.keep());
+	}
+
+	BatchResult toResult() {
+		return kept.toResult(total, failed);
+	}
+
+}
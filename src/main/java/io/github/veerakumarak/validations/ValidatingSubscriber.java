@@ -0,0 +1,79 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link Flow.Subscriber} that validates records as they are published. It requests a bounded number of
+ * records at a time and cancels the subscription as soon as its {@link FailurePolicy} says to stop.
+ */
+public final class ValidatingSubscriber<T> implements Flow.Subscriber<T> {
+
+	private static final long REQUEST_SIZE = 256;
+
+	private final Schema<T> schema;
+	private final StreamingCollector collector;
+	private final CompletableFuture<BatchResult> result = new CompletableFuture<>();
+
+	// onSubscribe/onNext/onComplete are signalled serially, so these need no synchronization
+	private Flow.Subscription subscription;
+	private long outstanding;
+
+	ValidatingSubscriber(Schema<T> schema, FailurePolicy policy) {
+		this.schema = schema;
+		this.collector = new StreamingCollector(policy);
+	}
+
+	/**
+	 * Completes when the publisher completes, fails, or the policy stops the validation.
+	 */
+	public CompletableFuture<BatchResult> result() {
+		return result;
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		Objects.requireNonNull(subscription);
+		if (this.subscription != null) {
+			subscription.cancel();
+			return;
+		}
+		this.subscription = subscription;
+		outstanding = REQUEST_SIZE;
+		subscription.request(REQUEST_SIZE);
+	}
+
+	@Override
+	public void onNext(T item) {
+		if (result.isDone()) {
+			return;
+		}
+		boolean proceed;
+		try {
+			proceed = collector.add(schema.validate(item));
+		} catch (RuntimeException e) {
+			subscription.cancel();
+			result.completeExceptionally(e);
+			return;
+		}
+		if (!proceed) {
+			subscription.cancel();
+			result.complete(collector.toResult());
+		} else if (--outstanding == 0) {
+			outstanding = REQUEST_SIZE;
+			subscription.request(REQUEST_SIZE);
+		}
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		result.completeExceptionally(throwable);
+	}
+
+	@Override
+	public void onComplete() {
+		result.complete(collector.toResult());
+	}
+
+}
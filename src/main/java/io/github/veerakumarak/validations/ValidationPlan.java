@@ -0,0 +1,204 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.metrics.ValidationListener;
+import io.github.veerakumarak.validations.metrics.ValidationMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Frozen, array-backed form of a {@link FieldValidator} chain. The {@link Terminate} and {@link ErrorOn}
+ * settings of every rule are resolved up front into jump targets and a nullable message, so
+ * {@link #validate(String, Object)} is a single loop over plain arrays. {@link CompilationMode#OPTIMIZED} and
+ * {@link CompilationMode#GENERATED} plans also check values against an optimized fast path first and only loop
+ * to collect the reasons of invalid ones.
+ */
+public final class ValidationPlan<K> implements IValidation<K> {
+
+	private final Predicate<K>[] predicates;
+	// message to report when the rule fails, null when a failure is only used for flow control (ErrorOn.NONE)
+	private final Message[] messages;
+	// computes the reported messages from the failing value, null for rules with a fixed message
+	private final Function<? super K, List<Message>>[] describers;
+	// index of the next rule to run, predicates.length ends the evaluation
+	private final int[] onPass;
+	private final int[] onFail;
+	// rule names reported to a ValidationListener
+	private final String[] names;
+	// true exactly when the loop would report nothing, null for interpreted plans
+	private final Predicate<K> fastPath;
+	private final boolean generated;
+	private final List<String> contradictions;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private ValidationPlan(Rule<K> last, CompilationMode mode) {
+		int size = last.size();
+		this.predicates = new Predicate[size];
+		this.messages = new Message[size];
+		this.describers = new Function[size];
+		this.onPass = new int[size];
+		this.onFail = new int[size];
+		this.names = new String[size];
+
+		for (Rule<K> rule = last; rule != null; rule = rule.previous()) {
+			int i = rule.size() - 1;
+			predicates[i] = Objects.requireNonNull(rule.predicate());
+			messages[i] = rule.errorOn() == ErrorOn.FAILURE ? rule.onErrorMessage() : null;
+			describers[i] = rule.errorOn() == ErrorOn.FAILURE ? rule.describeFailure() : null;
+			onPass[i] = rule.terminate() == Terminate.SUCCESS ? size : i + 1;
+			onFail[i] = rule.terminate() == Terminate.FAILURE ? size : i + 1;
+			names[i] = nameOf(rule.onErrorMessage(), i);
+		}
+		if (mode == CompilationMode.INTERPRETED) {
+			this.fastPath = null;
+			this.generated = false;
+			this.contradictions = List.of();
+		} else {
+			RuleOptimizer.Program<K> program = optimize();
+			Predicate<K> compiled = mode == CompilationMode.GENERATED
+					? PlanGenerator.generate(program.predicates(), program.reports(), program.onPass(), program.onFail())
+					: null;
+			this.fastPath = compiled != null ? compiled : program;
+			this.generated = compiled != null;
+			this.contradictions = program.contradictions();
+		}
+	}
+
+	static <K> ValidationPlan<K> of(Rule<K> last, CompilationMode mode) {
+		return new ValidationPlan<>(last, mode);
+	}
+
+	public int size() {
+		return predicates.length;
+	}
+
+	/**
+	 * Whether this plan runs a generated fast path; false for other modes and for chains the
+	 * generator declined, e.g. longer than it supports.
+	 */
+	public boolean isGenerated() {
+		return generated;
+	}
+
+	/**
+	 * Rules the optimizer found can never pass together, e.g. {@code equals("a").notEquals("a")}. Every value
+	 * that reaches them is invalid. Always empty for interpreted plans.
+	 */
+	public List<String> contradictions() {
+		return contradictions;
+	}
+
+	/**
+	 * Whether {@code param} is valid, without collecting reasons. Runs the fast path when there is one, where a
+	 * cheap rule can reject a value before an expensive one runs. Not reported to a {@link ValidationListener}.
+	 */
+	public boolean isValid(K param) {
+		if (fastPath != null) {
+			return fastPath.test(param);
+		}
+		int i = 0;
+		while (i < predicates.length) {
+			if (predicates[i].test(param)) {
+				i = onPass[i];
+			} else if (messages[i] != null) {
+				return false;
+			} else {
+				i = onFail[i];
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public FieldResult validate(String field, K param) {
+		// a listener needs every rule, so instrumented runs always take the loop
+		if (fastPath != null && ValidationMetrics.listener() == null && fastPath.test(param)) {
+			return FieldResult.ok(field);
+		}
+		List<Message> reasons = failures(field, param);
+		return reasons == null ? FieldResult.ok(field) : FieldResult.failWith(field, reasons);
+	}
+
+	/**
+	 * The reported messages for {@code param}, or null when it is valid. They do not depend on the field name,
+	 * which is only passed on to an installed {@link ValidationListener}.
+	 */
+	List<Message> failures(String field, K param) {
+		ValidationListener listener = ValidationMetrics.listener();
+		if (listener != null) {
+			return instrumentedFailures(field, param, listener);
+		}
+
+		// allocated on the first reported failure only
+		List<Message> reasons = null;
+
+		int i = 0;
+		while (i < predicates.length) {
+			if (predicates[i].test(param)) {
+				i = onPass[i];
+			} else {
+				reasons = report(reasons, i, param);
+				i = onFail[i];
+			}
+		}
+		return reasons;
+	}
+
+	private List<Message> instrumentedFailures(String field, K param, ValidationListener listener) {
+		int interval = listener.samplingInterval();
+		boolean timed = interval == 1 || (interval > 1 && ThreadLocalRandom.current().nextInt(interval) == 0);
+		List<Message> reasons = null;
+
+		int i = 0;
+		while (i < predicates.length) {
+			long start = timed ? System.nanoTime() : 0;
+			boolean passed = predicates[i].test(param);
+			listener.onRule(field, names[i], passed, timed ? System.nanoTime() - start : -1);
+			if (passed) {
+				i = onPass[i];
+			} else {
+				reasons = report(reasons, i, param);
+				i = onFail[i];
+			}
+		}
+		return reasons;
+	}
+
+	private List<Message> report(List<Message> reasons, int i, K param) {
+		if (messages[i] == null) {
+			return reasons;
+		}
+		if (reasons == null) {
+			reasons = new ArrayList<>(2);
+		}
+		if (describers[i] == null) {
+			reasons.add(messages[i]);
+		} else {
+			reasons.addAll(describers[i].apply(param));
+		}
+		return reasons;
+	}
+
+	private RuleOptimizer.Program<K> optimize() {
+		boolean[] reports = new boolean[messages.length];
+		for (int i = 0; i < reports.length; i++) {
+			reports[i] = messages[i] != null;
+		}
+		return RuleOptimizer.optimize(predicates, reports, onPass, onFail, names);
+	}
+
+	private static String nameOf(Message message, int i) {
+		if (message != null && message.code() != null) {
+			return message.code();
+		}
+		if (message != null && !message.template().isEmpty()) {
+			return message.template();
+		}
+		return "rule" + i;
+	}
+
+}
@@ -4,35 +4,99 @@ import io.github.veerakumarak.fp.Failure;
 import io.github.veerakumarak.fp.Failures;
 import io.github.veerakumarak.fp.failures.InvalidRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
+import java.util.function.Supplier;
 
-public record ValidationResult(boolean valid, Map<String, List<String>> reasons) {
+/**
+ * Failures of one or more fields, grouped by field name in the order they were reported.
+ * <p>
+ * Failures are stored as parallel arrays: the distinct field names, and for each field a range of the
+ * flat {@link Message} array. All valid results share one instance, and the {@link #reasons()} map
+ * is only built on first access.
+ */
+public final class ValidationResult {
+
+    private static final String[] NO_FIELDS = new String[0];
+    private static final int[] NO_OFFSETS = new int[]{0};
+    private static final Message[] NO_MESSAGES = new Message[0];
+    private static final ValidationResult VALID = new ValidationResult(true, NO_FIELDS, NO_OFFSETS, NO_MESSAGES, Map.of());
+
+    private final boolean valid;
+    private final String[] fields;
+    // messages of fields[i] are messages[offsets[i]] until messages[offsets[i + 1]]
+    private final int[] offsets;
+    private final Message[] messages;
+
+    // built on first access; every field they derive from is final, so a racy publish is safe
+    private Map<String, List<String>> reasons;
+    private Failure stacklessFailure;
+
+    private ValidationResult(boolean valid, String[] fields, int[] offsets, Message[] messages, Map<String, List<String>> reasons) {
+        this.valid = valid;
+        this.fields = fields;
+        this.offsets = offsets;
+        this.messages = messages;
+        this.reasons = reasons;
+    }
+
+    public ValidationResult(boolean valid, Map<String, List<String>> reasons) {
+        Objects.requireNonNull(reasons);
+        Builder builder = new Builder();
+        reasons.forEach(builder::add);
+        this.valid = valid;
+        this.fields = builder.fieldArray();
+        this.offsets = builder.offsetArray();
+        this.messages = builder.messageArray();
+        this.reasons = reasons;
+    }
 
     public static ValidationResult of(Map<String, List<String>> reasons) {
         Objects.requireNonNull(reasons);
-        return new ValidationResult(reasons.isEmpty(), reasons);
+        return reasons.isEmpty() ? VALID : new ValidationResult(false, reasons);
     }
 
     public static ValidationResult of(FieldResult fieldResult) {
-        return of(List.of(fieldResult));
+        return fieldResult.valid() ? VALID : new Builder().add(fieldResult).build();
     }
 
     public static ValidationResult of(List<FieldResult> fieldResults) {
-        return of(fieldResults.stream()
-                .filter(result -> !result.valid())
-                .collect(Collectors.toMap(
-                        FieldResult::field,
-                        FieldResult::reasons,
-                        (existingReasons, newReasons) -> {
-                            List<String> combined = new ArrayList<>(existingReasons);
-                            combined.addAll(newReasons);
-                            return combined;
-                        }
-                )));
+        if (fieldResults instanceof RandomAccess) {
+            int size = fieldResults.size();
+            int first = 0;
+            while (first < size && fieldResults.get(first).valid()) {
+                first++;
+            }
+            if (first == size) {
+                return VALID;
+            }
+            Builder builder = new Builder();
+            for (int i = first; i < size; i++) {
+                builder.add(fieldResults.get(i));
+            }
+            return builder.build();
+        }
+        Builder builder = new Builder();
+        fieldResults.forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean valid() {
+        return valid;
     }
 
     public Boolean isValid() {
@@ -41,32 +105,276 @@ public record ValidationResult(boolean valid, Map<String, List<String>> reasons)
 
     public void orThrow() {
         if (!isValid()) {
-            throw new InvalidRequest(reasons);
+            throw new InvalidRequest(reasons());
+        }
+    }
+
+    /**
+     * Like {@link #orThrow()}, but the thrown {@link InvalidRequest} has no stack trace. Use it where
+     * rejected requests are frequent and the trace carries no information.
+     */
+    public void orThrowWithoutStackTrace() {
+        if (!valid) {
+            throw (InvalidRequest) toFailureWithoutStackTrace();
+        }
+    }
+
+    /**
+     * Throws the exception supplied by {@code exception} when invalid, e.g. a preallocated instance.
+     */
+    public void orThrow(Supplier<? extends RuntimeException> exception) {
+        if (!valid) {
+            throw exception.get();
         }
     }
 
     public Failure toFailure() {
-        return !isValid() ? new InvalidRequest(reasons) : Failures.empty();
+        return !isValid() ? new InvalidRequest(reasons()) : Failures.empty();
+    }
+
+    /**
+     * Like {@link #toFailure()}, but the {@link InvalidRequest} has no stack trace and is created once per result.
+     */
+    public Failure toFailureWithoutStackTrace() {
+        if (valid) {
+            return Failures.empty();
+        }
+        Failure failure = stacklessFailure;
+        if (failure == null) {
+            failure = new StacklessInvalidRequest(reasons());
+            stacklessFailure = failure;
+        }
+        return failure;
     }
 
     public Map<String, List<String>> reasons() {
-        return reasons;
+        Map<String, List<String>> view = reasons;
+        if (view == null) {
+            Map<String, List<String>> byField = new LinkedHashMap<>();
+            for (int i = 0; i < fields.length; i++) {
+                byField.put(fields[i], new MessageList(Arrays.asList(messages).subList(offsets[i], offsets[i + 1])));
+            }
+            view = Collections.unmodifiableMap(byField);
+            reasons = view;
+        }
+        return view;
+    }
+
+    int fieldCount() {
+        return fields.length;
+    }
+
+    String field(int i) {
+        return fields[i];
+    }
+
+    int messageStart(int field) {
+        return offsets[field];
+    }
+
+    int messageEnd(int field) {
+        return offsets[field + 1];
+    }
+
+    Message message(int i) {
+        return messages[i];
     }
 
     public String getMessage() {
-        if (reasons == null || reasons.isEmpty()) {
+        if (fields.length == 0) {
             return "No failures detected.";
         }
 
-        String detailedReasons = reasons.entrySet().stream()
-                .map(entry -> {
-                    String field = entry.getKey();
-                    String fieldReasons = String.join(",", entry.getValue());
-                    return "  \"" + field + "\": \"" + String.join(", ", fieldReasons) + "\"";
-                })
-                .collect(Collectors.joining("\n"));
+        StringBuilder message = new StringBuilder("{\n");
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                message.append('\n');
+            }
+            message.append("  \"").append(fields[i]).append("\": \"");
+            for (int m = offsets[i]; m < offsets[i + 1]; m++) {
+                if (m > offsets[i]) {
+                    message.append(',');
+                }
+                message.append(messages[m].render());
+            }
+            message.append('"');
+        }
+        return message.append("\n}").toString();
+    }
+
+    /**
+     * The failures as a JSON object mapping each field to its array of reasons, e.g.
+     * {@code {"name":["should not be empty"]}}; {@code {}} when valid.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        try {
+            JsonWriter.write(this, json);
+        } catch (IOException e) {
+            throw new IllegalStateException("StringBuilder appends do not throw IOException", e);
+        }
+        return json.toString();
+    }
+
+    /**
+     * Writes {@link #toJson()} as UTF-8 to {@code out}. Wrap unbuffered streams in a {@link java.io.BufferedOutputStream}.
+     */
+    public void writeJson(OutputStream out) throws IOException {
+        JsonWriter.write(this, out);
+    }
+
+    /**
+     * Appends {@link #toJson()} to {@code out} without building an intermediate String.
+     */
+    public void writeJson(Appendable out) throws IOException {
+        JsonWriter.write(this, out);
+    }
+
+    /**
+     * Puts {@link #toJson()} as UTF-8 into {@code buffer}, heap or direct.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has not enough room left
+     */
+    public void writeJson(ByteBuffer buffer) {
+        JsonWriter.write(this, buffer);
+    }
+
+    /**
+     * {@link #toJson()} encoded as UTF-8.
+     */
+    public byte[] toJsonBytes() {
+        return JsonWriter.toBytes(this);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ValidationResult other && valid == other.valid && reasons().equals(other.reasons());
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Boolean.hashCode(valid) + reasons().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidationResult[valid=" + valid + ", reasons=" + reasons() + "]";
+    }
+
+    /**
+     * Collects failures one field at a time, merging the reasons of repeated fields in insertion order.
+     * Nothing is allocated until the first failure is added.
+     */
+    public static final class Builder {
+
+        // past this many distinct fields, look fields up through a hash index instead of a linear scan
+        private static final int INDEX_THRESHOLD = 8;
+
+        private String[] fields = NO_FIELDS;
+        private List<Message>[] fieldMessages;
+        private int fieldCount;
+        private int messageCount;
+        private Map<String, Integer> index;
+
+        private Builder() {
+        }
+
+        public Builder add(FieldResult fieldResult) {
+            if (!fieldResult.valid()) {
+                add(fieldResult.field(), fieldResult.reasons());
+            }
+            return this;
+        }
+
+        public Builder add(String field, List<String> fieldReasons) {
+            List<Message> target = messagesOf(field);
+            if (fieldReasons instanceof MessageList list) {
+                target.addAll(list.messages());
+            } else {
+                for (String reason : fieldReasons) {
+                    target.add(Message.text(reason));
+                }
+            }
+            messageCount += fieldReasons.size();
+            return this;
+        }
+
+        public boolean isValid() {
+            return fieldCount == 0;
+        }
+
+        public ValidationResult build() {
+            if (fieldCount == 0) {
+                return VALID;
+            }
+            return new ValidationResult(false, fieldArray(), offsetArray(), messageArray(), null);
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private List<Message> messagesOf(String field) {
+            int i = indexOf(field);
+            if (i >= 0) {
+                return fieldMessages[i];
+            }
+            if (fieldCount == fields.length) {
+                int capacity = Math.max(4, fieldCount * 2);
+                fields = Arrays.copyOf(fields, capacity);
+                fieldMessages = fieldMessages == null ? new List[capacity] : Arrays.copyOf(fieldMessages, capacity);
+            }
+            List<Message> created = new ArrayList<>(2);
+            fields[fieldCount] = field;
+            fieldMessages[fieldCount] = created;
+            if (index != null) {
+                index.put(field, fieldCount);
+            } else if (fieldCount + 1 > INDEX_THRESHOLD) {
+                index = new HashMap<>();
+                for (int f = 0; f <= fieldCount; f++) {
+                    index.put(fields[f], f);
+                }
+            }
+            fieldCount++;
+            return created;
+        }
+
+        private int indexOf(String field) {
+            if (index != null) {
+                Integer i = index.get(field);
+                return i == null ? -1 : i;
+            }
+            for (int i = 0; i < fieldCount; i++) {
+                if (Objects.equals(fields[i], field)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private String[] fieldArray() {
+            return fieldCount == 0 ? NO_FIELDS : Arrays.copyOf(fields, fieldCount);
+        }
+
+        private int[] offsetArray() {
+            int[] offsets = new int[fieldCount + 1];
+            for (int i = 0; i < fieldCount; i++) {
+                offsets[i + 1] = offsets[i] + fieldMessages[i].size();
+            }
+            return offsets;
+        }
+
+        private Message[] messageArray() {
+            Message[] flat = new Message[messageCount];
+            int m = 0;
+            for (int i = 0; i < fieldCount; i++) {
+                for (Message message : fieldMessages[i]) {
+                    flat[m++] = message;
+                }
+            }
+            return flat;
+        }
 
-        return "{\n" + detailedReasons + "\n}";
     }
 
 }
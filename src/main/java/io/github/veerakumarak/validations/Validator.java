@@ -1,7 +1,15 @@
 package io.github.veerakumarak.validations;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -21,7 +29,12 @@ public final class Validator {
 	}
 
     public static ValidationResult allValid(List<FieldResult> first, List<FieldResult> second) {
-        return allValid(Stream.concat(first.stream(), second.stream()).toList());
+        Objects.requireNonNull(first, "Results list cannot be null.");
+        Objects.requireNonNull(second, "Results list cannot be null.");
+        ValidationResult.Builder result = ValidationResult.builder();
+        first.forEach(result::add);
+        second.forEach(result::add);
+        return result.build();
     }
 
     public static ValidationResult allValid(FieldResult first, List<FieldResult> second) {
@@ -30,8 +43,10 @@ public final class Validator {
 
     public static ValidationResult anyValid(List<FieldResult> fieldResults) {
 		Objects.requireNonNull(fieldResults, "Results list cannot be null.");
-		if (!fieldResults.isEmpty() && fieldResults.stream().anyMatch(FieldResult::valid)) {
-			return ValidationResult.of(List.of());
+		for (FieldResult fieldResult : fieldResults) {
+			if (fieldResult.valid()) {
+				return ValidationResult.of(List.of());
+			}
 		}
 		return ValidationResult.of(fieldResults);
 	}
@@ -41,12 +56,226 @@ public final class Validator {
 	}
 
     public static ValidationResult anyValid(List<FieldResult> first, List<FieldResult> second) {
-        return anyValid(Stream.concat(first.stream(), second.stream()).toList());
+        Objects.requireNonNull(first, "Results list cannot be null.");
+        Objects.requireNonNull(second, "Results list cannot be null.");
+        for (FieldResult fieldResult : first) {
+            if (fieldResult.valid()) {
+                return ValidationResult.of(List.of());
+            }
+        }
+        for (FieldResult fieldResult : second) {
+            if (fieldResult.valid()) {
+                return ValidationResult.of(List.of());
+            }
+        }
+        ValidationResult.Builder result = ValidationResult.builder();
+        first.forEach(result::add);
+        second.forEach(result::add);
+        return result.build();
     }
 
     public static ValidationResult anyValid(FieldResult first, List<FieldResult> second) {
         return anyValid(List.of(first), second);
     }
 
+    /**
+     * Defers {@code validation.validate(field, value)} until a lazy combinator asks for it.
+     */
+    public static <K> Supplier<FieldResult> check(String field, K value, IValidation<K> validation) {
+        Objects.requireNonNull(validation, "Validation cannot be null.");
+        return () -> validation.validate(field, value);
+    }
+
+    /**
+     * Evaluates {@code checks} in order and stops at the first invalid field; later checks never run.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static ValidationResult allValidLazy(Supplier<FieldResult>... checks) {
+        return allValidLazy(1, List.of(checks));
+    }
+
+    public static ValidationResult allValidLazy(List<Supplier<FieldResult>> checks) {
+        return allValidLazy(1, checks);
+    }
+
+    /**
+     * Evaluates {@code checks} in order and stops once {@code maxFailures} fields were invalid.
+     */
+    public static ValidationResult allValidLazy(int maxFailures, List<Supplier<FieldResult>> checks) {
+        Objects.requireNonNull(checks, "Checks list cannot be null.");
+        if (maxFailures <= 0) {
+            throw new IllegalArgumentException("maxFailures must be positive");
+        }
+        ValidationResult.Builder result = ValidationResult.builder();
+        int failures = 0;
+        for (Supplier<FieldResult> check : checks) {
+            FieldResult fieldResult = check.get();
+            if (!fieldResult.valid()) {
+                result.add(fieldResult);
+                if (++failures == maxFailures) {
+                    break;
+                }
+            }
+        }
+        return result.build();
+    }
+
+    /**
+     * Evaluates {@code checks} in order and stops at the first valid field. When none is valid all failures are reported.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static ValidationResult anyValidLazy(Supplier<FieldResult>... checks) {
+        return anyValidLazy(List.of(checks));
+    }
+
+    public static ValidationResult anyValidLazy(List<Supplier<FieldResult>> checks) {
+        Objects.requireNonNull(checks, "Checks list cannot be null.");
+        ValidationResult.Builder result = ValidationResult.builder();
+        for (Supplier<FieldResult> check : checks) {
+            FieldResult fieldResult = check.get();
+            if (fieldResult.valid()) {
+                return ValidationResult.of(List.of());
+            }
+            result.add(fieldResult);
+        }
+        return result.build();
+    }
+
+    /**
+     * Waits for the already started {@code checks} and completes at the first invalid field; the checks still
+     * running are cancelled. Completes exceptionally with a {@link java.util.concurrent.TimeoutException} when
+     * no outcome is known after {@code timeout}, or when a check fails with an exception.
+     */
+    public static CompletableFuture<ValidationResult> allValidAsync(List<CompletableFuture<FieldResult>> checks, Duration timeout) {
+        return allValidAsync(1, checks, timeout);
+    }
+
+    /**
+     * Like {@link #allValidAsync(List, Duration)}, but completes once {@code maxFailures} fields were invalid.
+     * Failures are reported in the order of {@code checks}.
+     */
+    public static CompletableFuture<ValidationResult> allValidAsync(int maxFailures, List<CompletableFuture<FieldResult>> checks, Duration timeout) {
+        Objects.requireNonNull(checks, "Checks list cannot be null.");
+        Objects.requireNonNull(timeout, "Timeout cannot be null.");
+        if (maxFailures <= 0) {
+            throw new IllegalArgumentException("maxFailures must be positive");
+        }
+        int size = checks.size();
+        CompletableFuture<ValidationResult> result = new CompletableFuture<>();
+        AtomicReferenceArray<FieldResult> results = new AtomicReferenceArray<>(size);
+        AtomicInteger pending = new AtomicInteger(size);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            checks.get(i).whenComplete((fieldResult, error) -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                results.set(index, fieldResult);
+                if ((!fieldResult.valid() && failures.incrementAndGet() >= maxFailures) || pending.decrementAndGet() == 0) {
+                    result.complete(collect(results));
+                }
+            });
+        }
+        if (size == 0) {
+            result.complete(ValidationResult.of(List.of()));
+        }
+        return settle(result, checks, timeout);
+    }
+
+    /**
+     * Waits for the already started {@code checks} and completes at the first valid field, cancelling the checks
+     * still running. When none is valid all failures are reported in the order of {@code checks}.
+     */
+    public static CompletableFuture<ValidationResult> anyValidAsync(List<CompletableFuture<FieldResult>> checks, Duration timeout) {
+        Objects.requireNonNull(checks, "Checks list cannot be null.");
+        Objects.requireNonNull(timeout, "Timeout cannot be null.");
+        int size = checks.size();
+        CompletableFuture<ValidationResult> result = new CompletableFuture<>();
+        AtomicReferenceArray<FieldResult> results = new AtomicReferenceArray<>(size);
+        AtomicInteger pending = new AtomicInteger(size);
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            checks.get(i).whenComplete((fieldResult, error) -> {
+                if (result.isDone()) {
+                    return;
+                }
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                if (fieldResult.valid()) {
+                    result.complete(ValidationResult.of(List.of()));
+                    return;
+                }
+                results.set(index, fieldResult);
+                if (pending.decrementAndGet() == 0) {
+                    result.complete(collect(results));
+                }
+            });
+        }
+        if (size == 0) {
+            result.complete(ValidationResult.of(List.of()));
+        }
+        return settle(result, checks, timeout);
+    }
+
+    private static ValidationResult collect(AtomicReferenceArray<FieldResult> results) {
+        List<FieldResult> completed = new ArrayList<>(results.length());
+        for (int i = 0; i < results.length(); i++) {
+            FieldResult fieldResult = results.get(i);
+            if (fieldResult != null) {
+                completed.add(fieldResult);
+            }
+        }
+        return ValidationResult.of(completed);
+    }
+
+    // applies the timeout and cancels the remaining checks once the outcome is known, also when the caller cancels
+    private static CompletableFuture<ValidationResult> settle(CompletableFuture<ValidationResult> result,
+                                                              List<CompletableFuture<FieldResult>> checks, Duration timeout) {
+        result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        // completes only after the checks were cancelled, so callers never observe them still running
+        CompletableFuture<ValidationResult> settled = result.whenComplete((validationResult, error) -> cancelAll(checks));
+        settled.whenComplete((validationResult, error) -> {
+            result.cancel(true);
+            cancelAll(checks);
+        });
+        return settled;
+    }
+
+    private static void cancelAll(List<CompletableFuture<FieldResult>> checks) {
+        for (CompletableFuture<FieldResult> check : checks) {
+            check.cancel(true);
+        }
+    }
+
+
+    /**
+     * Consumes {@code fieldResults} until {@code policy} says to stop. Failures are reported by their position
+     * in the input, and only the ones kept by the policy are retained.
+     */
+    public static BatchResult collectFailures(Iterator<FieldResult> fieldResults, FailurePolicy policy) {
+        Objects.requireNonNull(fieldResults, "Results cannot be null.");
+        Objects.requireNonNull(policy, "Policy cannot be null.");
+        StreamingCollector failures = new StreamingCollector(policy);
+        while (fieldResults.hasNext()) {
+            if (!failures.add(ValidationResult.of(fieldResults.next()))) {
+                break;
+            }
+        }
+        return failures.toResult();
+    }
+
+    public static BatchResult collectFailures(Stream<FieldResult> fieldResults, FailurePolicy policy) {
+        Objects.requireNonNull(fieldResults, "Results cannot be null.");
+        return collectFailures(fieldResults.sequential().iterator(), policy);
+    }
 
 }
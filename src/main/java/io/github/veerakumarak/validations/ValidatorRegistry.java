@@ -0,0 +1,70 @@
+package io.github.veerakumarak.validations;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Shared, hot-swappable lookup of validators by name or by (tenant, field). Readers do one volatile read of the
+ * current {@link RuleSet} and a hash lookup, never a lock, so lookups are wait-free; writers build a new rule set
+ * and swap it in atomically. A reader that already holds a validator keeps using it after a swap.
+ *
+ * <pre>{@code
+ * ValidatorRegistry registry = new ValidatorRegistry(RuleSetLoader.load(Path.of("validation.properties")));
+ * IValidation<String> sku = registry.get(tenant, "sku");
+ *
+ * // on a configuration change
+ * registry.replace(RuleSetLoader.load(Path.of("validation.properties")));
+ * }</pre>
+ */
+public final class ValidatorRegistry {
+
+	private final AtomicReference<RuleSet> rules;
+
+	public ValidatorRegistry() {
+		this(RuleSet.empty());
+	}
+
+	public ValidatorRegistry(RuleSet rules) {
+		this.rules = new AtomicReference<>(Objects.requireNonNull(rules));
+	}
+
+	/**
+	 * The current rule set; lookups on it stay consistent however many swaps happen meanwhile.
+	 */
+	public RuleSet snapshot() {
+		return rules.get();
+	}
+
+	public void replace(RuleSet next) {
+		rules.set(Objects.requireNonNull(next));
+	}
+
+	/**
+	 * Atomically applies {@code change} to the current rule set. It may run more than once when writers race,
+	 * so it must only derive the new rule set from its argument.
+	 */
+	public RuleSet update(UnaryOperator<RuleSet> change) {
+		return rules.updateAndGet(current -> Objects.requireNonNull(change.apply(current)));
+	}
+
+	public <K> IValidation<K> get(String name) {
+		IValidation<K> validation = rules.get().find(name);
+		if (validation == null) {
+			throw new IllegalArgumentException("No validator registered as " + name);
+		}
+		return validation;
+	}
+
+	/**
+	 * The tenant's validator for {@code field}, falling back to the one registered under the field name.
+	 */
+	public <K> IValidation<K> get(String tenant, String field) {
+		IValidation<K> validation = rules.get().find(tenant, field);
+		if (validation == null) {
+			throw new IllegalArgumentException("No validator registered for " + field + " of tenant " + tenant);
+		}
+		return validation;
+	}
+
+}
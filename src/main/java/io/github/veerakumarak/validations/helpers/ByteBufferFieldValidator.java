@@ -0,0 +1,117 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.ErrorOn;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+import io.github.veerakumarak.validations.Terminate;
+import io.github.veerakumarak.validations.FieldValidator;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Rules for UTF-8 text held in a {@link ByteBuffer}, checked in place between the buffer's position and limit.
+ * Heap, direct and memory mapped buffers (or slices of them, e.g. one field of a frame) are read with absolute
+ * gets: nothing is decoded into a {@code String}, nothing is copied and the position is not moved.
+ */
+public class ByteBufferFieldValidator extends FieldValidator<ByteBuffer> {
+
+	private ByteBufferFieldValidator(Predicate<ByteBuffer> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		super(predicate, terminate, errorOn, onErrorMessage);
+	}
+
+	private ByteBufferFieldValidator(ByteBufferFieldValidator other, Predicate<ByteBuffer> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		super(other, predicate, terminate, errorOn, onErrorMessage);
+	}
+
+	public static ByteBufferFieldValidator nonNull() {
+		return new ByteBufferFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("byteBuffer.nonNull", "should not be null"));
+	}
+
+	public static IValidation<ByteBuffer> isNull() {
+		return new ByteBufferFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("byteBuffer.isNull", "should be null"));
+	}
+
+	public static ByteBufferFieldValidator optional() {
+		return new ByteBufferFieldValidator(Objects::isNull, Terminate.SUCCESS, ErrorOn.NONE, Message.text(""));
+	}
+
+	public ByteBufferFieldValidator minBytes(int size){
+		return new ByteBufferFieldValidator(this, (b) -> b.remaining() >= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.minBytes", "should have at least %s bytes", size));
+	}
+
+	public ByteBufferFieldValidator maxBytes(int size){
+		return new ByteBufferFieldValidator(this, (b) -> b.remaining() <= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.maxBytes", "should not exceed %s bytes", size));
+	}
+
+	/**
+	 * Fails on malformed UTF-8; stops the chain, so the rules after it only see well-formed text.
+	 */
+	public ByteBufferFieldValidator validUtf8(){
+		return new ByteBufferFieldValidator(this, (b) -> Utf8.codePointCount(b) >= 0, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("byteBuffer.validUtf8", "should be valid UTF-8"));
+	}
+
+	/**
+	 * Counts code points, the length of the decoded text; malformed UTF-8 fails this rule as well.
+	 */
+	public ByteBufferFieldValidator minLength(int size){
+		return new ByteBufferFieldValidator(this, (b) -> b.remaining() >= size && Utf8.codePointCount(b) >= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.minLength", "should have at least %s characters", size));
+	}
+
+	public ByteBufferFieldValidator maxLength(int size){
+		return new ByteBufferFieldValidator(this, (b) -> {
+			// every code point takes at least one byte, so short buffers pass without decoding
+			if (b.remaining() <= size) {
+				return Utf8.codePointCount(b) >= 0;
+			}
+			int count = Utf8.codePointCount(b);
+			return count >= 0 && count <= size;
+		}, Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.maxLength", "should not exceed %s characters", size));
+	}
+
+	public ByteBufferFieldValidator lengthBetween(int minSize, int maxSize){
+		return minLength(minSize).maxLength(maxSize);
+	}
+
+	public ByteBufferFieldValidator ascii(){
+		return new ByteBufferFieldValidator(this, Utf8::isAscii, Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.ascii", "should only contain ASCII characters"));
+	}
+
+	/**
+	 * Allows only the given ASCII characters, e.g. {@code onlyChars("0123456789ABCDEF")}.
+	 */
+	public ByteBufferFieldValidator onlyChars(String allowed){
+		boolean[] table = Utf8.asciiTable(allowed);
+		return new ByteBufferFieldValidator(this, (b) -> Utf8.allIn(b, table), Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.onlyChars", "should only contain the characters %s", allowed));
+	}
+
+	public ByteBufferFieldValidator contains(String subString){
+		byte[] needle = Utf8.encode(subString);
+		return new ByteBufferFieldValidator(this, (b) -> Utf8.contains(b, needle), Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.contains", "should contain %s", subString));
+	}
+
+	public ByteBufferFieldValidator startsWith(String prefix){
+		byte[] bytes = Utf8.encode(prefix);
+		return new ByteBufferFieldValidator(this, (b) -> Utf8.startsWith(b, bytes), Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.startsWith", "should start with %s", prefix));
+	}
+
+	public ByteBufferFieldValidator equals(String value){
+		byte[] bytes = Utf8.encode(value);
+		return new ByteBufferFieldValidator(this, (b) -> Utf8.contentEquals(b, bytes), Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.equals", "should be equal to %s", value));
+	}
+
+	public ByteBufferFieldValidator notEquals(String value){
+		byte[] bytes = Utf8.encode(value);
+		return new ByteBufferFieldValidator(this, (b) -> !Utf8.contentEquals(b, bytes), Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.notEquals", "should not be equal to %s", value));
+	}
+
+	public ByteBufferFieldValidator isEmpty(){
+		return new ByteBufferFieldValidator(this, (b) -> !b.hasRemaining(), Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.isEmpty", "should be empty"));
+	}
+
+	public ByteBufferFieldValidator notEmpty(){
+		return new ByteBufferFieldValidator(this, ByteBuffer::hasRemaining, Terminate.NONE, ErrorOn.FAILURE, Message.of("byteBuffer.notEmpty", "should not be empty"));
+	}
+
+}
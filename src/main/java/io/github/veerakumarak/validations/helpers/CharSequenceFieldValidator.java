@@ -0,0 +1,114 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.ErrorOn;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+import io.github.veerakumarak.validations.Terminate;
+import io.github.veerakumarak.validations.FieldValidator;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Rules for any {@link CharSequence}, such as a {@code StringBuilder} reused by a parser or a view over a
+ * decoded buffer, so the text never has to be turned into a {@code String}. None of the rules allocate.
+ */
+public class CharSequenceFieldValidator extends FieldValidator<CharSequence> {
+
+	private CharSequenceFieldValidator(Predicate<CharSequence> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		super(predicate, terminate, errorOn, onErrorMessage);
+	}
+
+	private CharSequenceFieldValidator(CharSequenceFieldValidator other, Predicate<CharSequence> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		super(other, predicate, terminate, errorOn, onErrorMessage);
+	}
+
+	public static CharSequenceFieldValidator nonNull() {
+		return new CharSequenceFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("charSequence.nonNull", "should not be null"));
+	}
+
+	public static IValidation<CharSequence> isNull() {
+		return new CharSequenceFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("charSequence.isNull", "should be null"));
+	}
+
+	public static CharSequenceFieldValidator optional() {
+		return new CharSequenceFieldValidator(Objects::isNull, Terminate.SUCCESS, ErrorOn.NONE, Message.text(""));
+	}
+
+	public CharSequenceFieldValidator minLength(int size){
+		return new CharSequenceFieldValidator(this, (s) -> s.length() >= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.minLength", "should have at least %s characters", size));
+	}
+
+	public CharSequenceFieldValidator maxLength(int size){
+		return new CharSequenceFieldValidator(this, (s) -> s.length() <= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.maxLength", "should not exceed %s characters", size));
+	}
+
+	public CharSequenceFieldValidator lengthBetween(int minSize, int maxSize){
+		return minLength(minSize).maxLength(maxSize);
+	}
+
+	/**
+	 * Counts code points, so a character outside the Basic Multilingual Plane counts once.
+	 */
+	public CharSequenceFieldValidator codePointsBetween(int min, int max){
+		return new CharSequenceFieldValidator(this, (s) -> {
+			int count = Character.codePointCount(s, 0, s.length());
+			return count >= min && count <= max;
+		}, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.codePointsBetween", "should have between %s and %s characters", min, max));
+	}
+
+	/**
+	 * Limits the UTF-8 encoded size, e.g. for a database column sized in bytes; computed without encoding.
+	 */
+	public CharSequenceFieldValidator maxUtf8Bytes(int size){
+		return new CharSequenceFieldValidator(this, (s) -> Utf8.encodedLength(s) <= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.maxUtf8Bytes", "should not exceed %s bytes", size));
+	}
+
+	public CharSequenceFieldValidator ascii(){
+		return new CharSequenceFieldValidator(this, Utf8::isAscii, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.ascii", "should only contain ASCII characters"));
+	}
+
+	/**
+	 * Allows only the given ASCII characters, e.g. {@code onlyChars("0123456789ABCDEF")}.
+	 */
+	public CharSequenceFieldValidator onlyChars(String allowed){
+		boolean[] table = Utf8.asciiTable(allowed);
+		return new CharSequenceFieldValidator(this, (s) -> Utf8.allIn(s, table), Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.onlyChars", "should only contain the characters %s", allowed));
+	}
+
+	public CharSequenceFieldValidator contains(String subString){
+		return new CharSequenceFieldValidator(this, (s) -> indexOf(s, subString) >= 0, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.contains", "should contain %s", subString));
+	}
+
+	public CharSequenceFieldValidator equals(String value){
+		return new CharSequenceFieldValidator(this, (s) -> value.contentEquals(s), Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.equals", "should be equal to %s", value));
+	}
+
+	public CharSequenceFieldValidator notEquals(String value){
+		return new CharSequenceFieldValidator(this, (s) -> !value.contentEquals(s), Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.notEquals", "should not be equal to %s", value));
+	}
+
+	public CharSequenceFieldValidator isEmpty(){
+		return new CharSequenceFieldValidator(this, (s) -> s.length() == 0, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.isEmpty", "should be empty"));
+	}
+
+	public CharSequenceFieldValidator notEmpty(){
+		return new CharSequenceFieldValidator(this, (s) -> s.length() != 0, Terminate.NONE, ErrorOn.FAILURE, Message.of("charSequence.notEmpty", "should not be empty"));
+	}
+
+	// String.indexOf without converting the sequence to a String first
+	private static int indexOf(CharSequence s, String needle) {
+		int last = s.length() - needle.length();
+		outer:
+		for (int i = 0; i <= last; i++) {
+			for (int j = 0; j < needle.length(); j++) {
+				if (s.charAt(i + j) != needle.charAt(j)) {
+					continue outer;
+				}
+			}
+			return i;
+		}
+		return -1;
+	}
+
+}
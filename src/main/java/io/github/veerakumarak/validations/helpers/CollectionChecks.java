@@ -0,0 +1,159 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Membership, uniqueness and per-element checks shared by {@link ListFieldValidator} and
+ * {@link CollectionFieldValidator}. Expected values are indexed once when the rule is built, and each
+ * check picks between probing and hashing from the sizes it sees.
+ */
+final class CollectionChecks {
+
+	// below this many comparisons a nested scan is cheaper than allocating a hash table
+	private static final int PROBE_LIMIT = 64;
+	// field name passed to element validations, a constant so a valid element reuses the cached FieldResult
+	private static final String ELEMENT = "element";
+
+	private CollectionChecks() {
+	}
+
+	/**
+	 * Predicate holding every element that must be present. The expected values are deduplicated and
+	 * numbered at build time; validation marks the ones it finds and stops once all have been seen.
+	 */
+	static <K, C extends Collection<K>> Predicate<C> containsAll(Collection<? extends K> expected) {
+		Map<Object, Integer> index = new HashMap<>(Math.max(16, expected.size() * 2));
+		for (K item : expected) {
+			index.putIfAbsent(item, index.size());
+		}
+		Object[] values = index.keySet().toArray();
+		int required = values.length;
+
+		return actual -> {
+			if (required == 0) {
+				return true;
+			}
+			if (actual.size() < required) {
+				return false;
+			}
+			// sets answer contains in constant time, tiny lists are cheaper to scan than to walk once with marks
+			if (actual instanceof Set || (long) actual.size() * required <= PROBE_LIMIT) {
+				for (Object value : values) {
+					if (!contains(actual, value)) {
+						return false;
+					}
+				}
+				return true;
+			}
+
+			long[] seen = new long[(required + 63) >>> 6];
+			int remaining = required;
+			for (K item : actual) {
+				Integer slot = index.get(item);
+				if (slot != null) {
+					long bit = 1L << slot;
+					int word = slot >>> 6;
+					if ((seen[word] & bit) == 0) {
+						seen[word] |= bit;
+						if (--remaining == 0) {
+							return true;
+						}
+					}
+				}
+			}
+			return false;
+		};
+	}
+
+	// immutable collections throw on contains(null), so a null value is looked for by scanning
+	private static boolean contains(Collection<?> actual, Object value) {
+		if (value != null) {
+			return actual.contains(value);
+		}
+		for (Object item : actual) {
+			if (item == null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * True when no two elements are equal. Sets pass without looking, small random access lists are
+	 * compared pairwise without allocating, anything larger goes through a presized {@link HashSet}.
+	 */
+	static boolean allUnique(Collection<?> actual) {
+		int size = actual.size();
+		if (size < 2 || actual instanceof Set) {
+			return true;
+		}
+		if (actual instanceof List<?> list && actual instanceof RandomAccess && size * (size - 1L) / 2 <= PROBE_LIMIT) {
+			for (int i = 1; i < size; i++) {
+				Object item = list.get(i);
+				for (int j = 0; j < i; j++) {
+					if (Objects.equals(item, list.get(j))) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		Set<Object> seen = new HashSet<>((int) (size / 0.75f) + 1);
+		for (Object item : actual) {
+			if (!seen.add(item)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Predicate that passes when every element passes {@code validation}; stops at the first failure.
+	 */
+	static <K, C extends Collection<K>> Predicate<C> each(IValidation<K> validation) {
+		return actual -> {
+			for (K item : actual) {
+				if (!validation.validate(ELEMENT, item).valid()) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
+	/**
+	 * Reasons for a failed {@link #each(IValidation)}: every failing element is validated again and each
+	 * of its reasons is reported as {@code [index] reason} under {@code code}.
+	 */
+	static <K, C extends Collection<K>> Function<C, List<Message>> describeEach(IValidation<K> validation, String code) {
+		return actual -> {
+			List<Message> reasons = new ArrayList<>();
+			int i = 0;
+			for (Iterator<K> it = actual.iterator(); it.hasNext(); i++) {
+				FieldResult result = validation.validate(ELEMENT, it.next());
+				if (!result.valid()) {
+					for (Message message : result.messages()) {
+						reasons.add(Message.of(code, "[%s] %s", i, message));
+					}
+				}
+			}
+			return reasons;
+		};
+	}
+
+}
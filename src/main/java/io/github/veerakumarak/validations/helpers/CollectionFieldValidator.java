@@ -0,0 +1,86 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.ErrorOn;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+import io.github.veerakumarak.validations.Terminate;
+import io.github.veerakumarak.validations.FieldValidator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Rules for any {@link Collection}, including sets; use {@link ListFieldValidator} when the field is declared as a {@link List}.
+ */
+public class CollectionFieldValidator<K> extends FieldValidator<Collection<K>> {
+
+	private CollectionFieldValidator(Predicate<Collection<K>> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		super(predicate, terminate, errorOn, onErrorMessage);
+	}
+
+    private CollectionFieldValidator(CollectionFieldValidator<K> other, Predicate<Collection<K>> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+        super(other, predicate, terminate, errorOn, onErrorMessage);
+    }
+
+    private CollectionFieldValidator(CollectionFieldValidator<K> other, Predicate<Collection<K>> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage,
+									 Function<? super Collection<K>, List<Message>> describeFailure) {
+        super(other, predicate, terminate, errorOn, onErrorMessage, describeFailure);
+    }
+
+    public static <K> CollectionFieldValidator<K> nonNull() {
+		return new CollectionFieldValidator<>(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("collection.nonNull", "collection must be non null"));
+	}
+
+	public static <K> IValidation<Collection<K>> isNull() {
+		return new CollectionFieldValidator<>(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("collection.isNull", "collection must be null"));
+	}
+
+	public CollectionFieldValidator<K> moreThan(int size){
+		return new CollectionFieldValidator<K>(this, (l) -> l.size() >= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.moreThan", "must have more than %s size", size));
+	}
+	
+	public CollectionFieldValidator<K> lessThan(int size){
+		return new CollectionFieldValidator<K>(this, (l) -> l.size() <= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.lessThan", "must have less than %s size", size));
+	}
+	
+	public CollectionFieldValidator<K> between(int minSize, int maxSize){
+		return moreThan(minSize).lessThan(maxSize);
+	}
+
+	public CollectionFieldValidator<K> contains(K item){
+		return new CollectionFieldValidator<K>(this, l -> l.contains(item), Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.contains", "must contain %s", item));
+	}
+
+	public CollectionFieldValidator<K> containsAll(Collection<K> items){
+		return new CollectionFieldValidator<K>(this, CollectionChecks.containsAll(items), Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.containsAll", "must contain all of %s", items));
+	}
+
+	public CollectionFieldValidator<K> notContains(K item){
+		return new CollectionFieldValidator<K>(this, l -> !l.contains(item), Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.notContains", "must not contain %s", item));
+	}
+
+	public CollectionFieldValidator<K> isEmpty(){
+		return new CollectionFieldValidator<K>(this, Collection::isEmpty, Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.isEmpty", "must be empty"));
+	}
+
+	public CollectionFieldValidator<K> notEmpty(){
+		return new CollectionFieldValidator<K>(this, l -> !l.isEmpty(), Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.notEmpty", "must not be empty"));
+	}
+
+	public CollectionFieldValidator<K> allUnique(){
+		return new CollectionFieldValidator<K>(this, CollectionChecks::allUnique, Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.allUnique", "must not contain duplicates"));
+	}
+
+	/**
+	 * Validates every element with {@code validation}; each reason of a failing element is reported
+	 * with its index, e.g. {@code [3] must be greater than 0}.
+	 */
+	public CollectionFieldValidator<K> each(IValidation<K> validation){
+		return new CollectionFieldValidator<K>(this, CollectionChecks.each(validation), Terminate.NONE, ErrorOn.FAILURE, Message.of("collection.each", "all elements must be valid"),
+				CollectionChecks.describeEach(validation, "collection.each"));
+	}
+
+}
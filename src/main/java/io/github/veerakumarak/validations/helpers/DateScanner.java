@@ -0,0 +1,184 @@
+package io.github.veerakumarak.validations.helpers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads ISO-8601 dates ({@code yyyy-MM-dd}) and local date-times ({@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]})
+ * straight from text or UTF-8 bytes. It only does fixed-width digit arithmetic, so a malformed input costs
+ * no exception and no allocation, and it checks the calendar strictly: {@code 2023-02-29} is rejected.
+ * <p>
+ * Byte buffers are read between position and limit with absolute gets, so heap, direct and mapped
+ * buffers work without copying and their position is left untouched.
+ */
+final class DateScanner {
+
+	/** Returned for malformed input, lower than any valid epoch day or second. */
+	static final long INVALID = Long.MIN_VALUE;
+
+	private static final int SECONDS_PER_DAY = 86_400;
+	// days from 0000-01-01 to 1970-01-01 in the proleptic Gregorian calendar
+	private static final long DAYS_0000_TO_1970 = 719_528L;
+	private static final int[] NANO_SCALE = {0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+	private interface Input<T> {
+
+		int length(T source);
+
+		// the character or byte at i, bytes as 0..255
+		int at(T source, int i);
+
+	}
+
+	private static final Input<CharSequence> CHARS = new Input<>() {
+		@Override
+		public int length(CharSequence source) {
+			return source.length();
+		}
+
+		@Override
+		public int at(CharSequence source, int i) {
+			return source.charAt(i);
+		}
+	};
+
+	private static final Input<ByteBuffer> BYTES = new Input<>() {
+		@Override
+		public int length(ByteBuffer source) {
+			return source.remaining();
+		}
+
+		@Override
+		public int at(ByteBuffer source, int i) {
+			return source.get(source.position() + i) & 0xFF;
+		}
+	};
+
+	private DateScanner() {
+	}
+
+	static long epochDay(CharSequence text) {
+		return epochDay(text, CHARS);
+	}
+
+	static long epochDay(ByteBuffer utf8) {
+		return epochDay(utf8, BYTES);
+	}
+
+	static long epochSecond(CharSequence text) {
+		return epochSecond(text, CHARS);
+	}
+
+	static long epochSecond(ByteBuffer utf8) {
+		return epochSecond(utf8, BYTES);
+	}
+
+	/**
+	 * Nano of second of a date-time already accepted by {@link #epochSecond(CharSequence)}.
+	 */
+	static int nanos(CharSequence text) {
+		return nanos(text, CHARS);
+	}
+
+	static int nanos(ByteBuffer utf8) {
+		return nanos(utf8, BYTES);
+	}
+
+	/**
+	 * Epoch day of a valid calendar date, or {@link #INVALID}.
+	 */
+	static long epochDay(int year, int month, int day) {
+		if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+			return INVALID;
+		}
+		// same arithmetic as LocalDate.toEpochDay, for years 0 to 9999
+		long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+		total += (367 * month - 362) / 12;
+		total += day - 1;
+		if (month > 2) {
+			total--;
+			if (!isLeapYear(year)) {
+				total--;
+			}
+		}
+		return total - DAYS_0000_TO_1970;
+	}
+
+	private static <T> long epochDay(T source, Input<T> in) {
+		return in.length(source) == 10 ? date(source, in) : INVALID;
+	}
+
+	private static <T> long epochSecond(T source, Input<T> in) {
+		int length = in.length(source);
+		if (length != 16 && length != 19 && (length < 20 || length > 29)) {
+			return INVALID;
+		}
+		long day = date(source, in);
+		if (day == INVALID || in.at(source, 10) != 'T' || in.at(source, 13) != ':') {
+			return INVALID;
+		}
+		int hour = digits(source, in, 11, 2);
+		int minute = digits(source, in, 14, 2);
+		int second = 0;
+		if (length > 16) {
+			if (in.at(source, 16) != ':') {
+				return INVALID;
+			}
+			second = digits(source, in, 17, 2);
+		}
+		if (length > 19 && (in.at(source, 19) != '.' || digits(source, in, 20, length - 20) < 0)) {
+			return INVALID;
+		}
+		if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return INVALID;
+		}
+		return day * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+	}
+
+	private static <T> int nanos(T source, Input<T> in) {
+		int length = in.length(source);
+		if (length <= 20) {
+			return 0;
+		}
+		return digits(source, in, 20, length - 20) * NANO_SCALE[length - 20];
+	}
+
+	// yyyy-MM-dd at the start of source
+	private static <T> long date(T source, Input<T> in) {
+		if (in.at(source, 4) != '-' || in.at(source, 7) != '-') {
+			return INVALID;
+		}
+		int year = digits(source, in, 0, 4);
+		int month = digits(source, in, 5, 2);
+		int day = digits(source, in, 8, 2);
+		if (year < 0 || month < 0 || day < 0) {
+			return INVALID;
+		}
+		return epochDay(year, month, day);
+	}
+
+	// value of count ASCII digits starting at from, or -1 when one of them is not a digit
+	private static <T> int digits(T source, Input<T> in, int from, int count) {
+		int value = 0;
+		for (int i = from; i < from + count; i++) {
+			int digit = in.at(source, i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	private static int lengthOfMonth(int year, int month) {
+		return switch (month) {
+			case 2 -> isLeapYear(year) ? 29 : 28;
+			case 4, 6, 9, 11 -> 30;
+			default -> 31;
+		};
+	}
+
+	private static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+}
@@ -0,0 +1,89 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+
+import java.util.List;
+import java.util.function.DoublePredicate;
+
+/**
+ * Validator for {@code double} values. Rules are {@link DoublePredicate}s evaluated
+ * against {@link #validate(String, double)}, so neither the caller nor the rules box the value.
+ */
+public final class DoubleValidator implements IValidation<Double> {
+
+	private static final PredicateChain<DoublePredicate> NO_RULES = PredicateChain.empty();
+	private static final Message NON_NULL = Message.of("double.nonNull", "should not be null");
+
+	private final boolean nullable;
+	private final PredicateChain<DoublePredicate> rules;
+
+	private DoubleValidator(boolean nullable, PredicateChain<DoublePredicate> rules) {
+		this.nullable = nullable;
+		this.rules = rules;
+	}
+
+	/**
+	 * A {@code null} boxed value fails with "should not be null"; has no effect on primitive input.
+	 */
+	public static DoubleValidator nonNull() {
+		return new DoubleValidator(false, NO_RULES);
+	}
+
+	/**
+	 * A {@code null} boxed value is valid and skips all rules; has no effect on primitive input.
+	 */
+	public static DoubleValidator optional() {
+		return new DoubleValidator(true, NO_RULES);
+	}
+
+	public DoubleValidator lowerThan(double max){
+		return satisfies((i) -> i < max, Message.of("double.lowerThan", "should be lower than %s", max));
+	}
+
+	public DoubleValidator greaterThan(double min){
+		return satisfies((i) -> i > min, Message.of("double.greaterThan", "should be greater than %s", min));
+	}
+
+	public DoubleValidator between(double min, double max){
+		return greaterThan(min).lowerThan(max);
+	}
+
+	public DoubleValidator equals(double value){
+		return satisfies((i) -> i == value, Message.of("double.equals", "should be equal to %s", value));
+	}
+
+	public DoubleValidator notEquals(double value){
+		return satisfies((i) -> i != value, Message.of("double.notEquals", "should not be equal to %s", value));
+	}
+
+	public DoubleValidator satisfies(DoublePredicate predicate, String onErrorMessage){
+		return new DoubleValidator(nullable, rules.then(predicate, onErrorMessage));
+	}
+
+	public DoubleValidator satisfies(DoublePredicate predicate, Message onErrorMessage){
+		return new DoubleValidator(nullable, rules.then(predicate, onErrorMessage));
+	}
+
+	public FieldResult validate(String field, double param) {
+		PredicateChain.Frozen<DoublePredicate> frozen = rules.freeze(DoublePredicate[]::new);
+		DoublePredicate[] predicates = frozen.predicates();
+		List<Message> reasons = null;
+		for (int i = 0; i < predicates.length; i++) {
+			if (!predicates[i].test(param)) {
+				reasons = PredicateChain.report(reasons, frozen.messages()[i]);
+			}
+		}
+		return PredicateChain.result(field, reasons);
+	}
+
+	@Override
+	public FieldResult validate(String field, Double param) {
+		if (param == null) {
+			return nullable ? FieldResult.ok(field) : FieldResult.fail(field, NON_NULL);
+		}
+		return validate(field, param.doubleValue());
+	}
+
+}
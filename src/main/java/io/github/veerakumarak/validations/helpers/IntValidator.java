@@ -0,0 +1,89 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Primitive counterpart of {@link IntegerFieldValidator}. Rules are {@link IntPredicate}s evaluated
+ * against {@link #validate(String, int)}, so neither the caller nor the rules box the value.
+ */
+public final class IntValidator implements IValidation<Integer> {
+
+	private static final PredicateChain<IntPredicate> NO_RULES = PredicateChain.empty();
+	private static final Message NON_NULL = Message.of("int.nonNull", "should not be null");
+
+	private final boolean nullable;
+	private final PredicateChain<IntPredicate> rules;
+
+	private IntValidator(boolean nullable, PredicateChain<IntPredicate> rules) {
+		this.nullable = nullable;
+		this.rules = rules;
+	}
+
+	/**
+	 * A {@code null} boxed value fails with "should not be null"; has no effect on primitive input.
+	 */
+	public static IntValidator nonNull() {
+		return new IntValidator(false, NO_RULES);
+	}
+
+	/**
+	 * A {@code null} boxed value is valid and skips all rules; has no effect on primitive input.
+	 */
+	public static IntValidator optional() {
+		return new IntValidator(true, NO_RULES);
+	}
+
+	public IntValidator lowerThan(int max){
+		return satisfies((i) -> i < max, Message.of("int.lowerThan", "should be lower than %s", max));
+	}
+
+	public IntValidator greaterThan(int min){
+		return satisfies((i) -> i > min, Message.of("int.greaterThan", "should be greater than %s", min));
+	}
+
+	public IntValidator between(int min, int max){
+		return greaterThan(min).lowerThan(max);
+	}
+
+	public IntValidator equals(int value){
+		return satisfies((i) -> i == value, Message.of("int.equals", "should be equal to %s", value));
+	}
+
+	public IntValidator notEquals(int value){
+		return satisfies((i) -> i != value, Message.of("int.notEquals", "should not be equal to %s", value));
+	}
+
+	public IntValidator satisfies(IntPredicate predicate, String onErrorMessage){
+		return new IntValidator(nullable, rules.then(predicate, onErrorMessage));
+	}
+
+	public IntValidator satisfies(IntPredicate predicate, Message onErrorMessage){
+		return new IntValidator(nullable, rules.then(predicate, onErrorMessage));
+	}
+
+	public FieldResult validate(String field, int param) {
+		PredicateChain.Frozen<IntPredicate> frozen = rules.freeze(IntPredicate[]::new);
+		IntPredicate[] predicates = frozen.predicates();
+		List<Message> reasons = null;
+		for (int i = 0; i < predicates.length; i++) {
+			if (!predicates[i].test(param)) {
+				reasons = PredicateChain.report(reasons, frozen.messages()[i]);
+			}
+		}
+		return PredicateChain.result(field, reasons);
+	}
+
+	@Override
+	public FieldResult validate(String field, Integer param) {
+		if (param == null) {
+			return nullable ? FieldResult.ok(field) : FieldResult.fail(field, NON_NULL);
+		}
+		return validate(field, param.intValue());
+	}
+
+}
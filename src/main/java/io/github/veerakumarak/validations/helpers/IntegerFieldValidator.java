@@ -1,43 +1,43 @@
 package io.github.veerakumarak.validations.helpers;
 
+import io.github.veerakumarak.validations.Constraint;
 import io.github.veerakumarak.validations.ErrorOn;
 import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
 import io.github.veerakumarak.validations.Terminate;
 import io.github.veerakumarak.validations.FieldValidator;
 
 import java.util.Objects;
 import java.util.function.Predicate;
 
-import static java.lang.String.format;
-
 public class IntegerFieldValidator extends FieldValidator<Integer> {
 
-	private IntegerFieldValidator(Predicate<Integer> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+	private IntegerFieldValidator(Predicate<Integer> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
 		super(predicate, terminate, errorOn, onErrorMessage);
 	}
 
-    private IntegerFieldValidator(IntegerFieldValidator other, Predicate<Integer> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+    private IntegerFieldValidator(IntegerFieldValidator other, Predicate<Integer> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
         super(other, predicate, terminate, errorOn, onErrorMessage);
     }
 
     public static IntegerFieldValidator nonNull() {
-		return new IntegerFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, "should not be null");
+		return new IntegerFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("integer.nonNull", "should not be null"));
 	}
 
 	public static IValidation<Integer> isNull() {
-		return new IntegerFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, "should be null");
+		return new IntegerFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("integer.isNull", "should be null"));
 	}
 
 	public static IntegerFieldValidator optional() {
-		return new IntegerFieldValidator(Objects::isNull, Terminate.SUCCESS, ErrorOn.NONE, "");
+		return new IntegerFieldValidator(Objects::isNull, Terminate.SUCCESS, ErrorOn.NONE, Message.text(""));
 	}
 
 	public IntegerFieldValidator lowerThan(int max){
-		return new IntegerFieldValidator(this, (i) -> i < max, Terminate.NONE, ErrorOn.FAILURE, format("should be lower than %s", max));
+		return new IntegerFieldValidator(this, Constraint.range("integer", Integer::intValue, Long.MIN_VALUE, (long) max - 1), Terminate.NONE, ErrorOn.FAILURE, Message.of("integer.lowerThan", "should be lower than %s", max));
     }
 	
 	public IntegerFieldValidator greaterThan(int min){
-		return new IntegerFieldValidator(this, (i) -> i > min, Terminate.NONE, ErrorOn.FAILURE, format("should be greater than %s", min));
+		return new IntegerFieldValidator(this, Constraint.range("integer", Integer::intValue, (long) min + 1, Long.MAX_VALUE), Terminate.NONE, ErrorOn.FAILURE, Message.of("integer.greaterThan", "should be greater than %s", min));
 	}
 
 	public IntegerFieldValidator between(int min, int max){
@@ -45,11 +45,11 @@ public class IntegerFieldValidator extends FieldValidator<Integer> {
 	}
 
 	public IntegerFieldValidator equals(int value){
-		return new IntegerFieldValidator(this, (i) -> i == value, Terminate.NONE, ErrorOn.FAILURE, format("should be equal to %s", value));
+		return new IntegerFieldValidator(this, Constraint.equalTo("integer", (long) value, Constraint.CHEAP, (Integer i) -> i == value), Terminate.NONE, ErrorOn.FAILURE, Message.of("integer.equals", "should be equal to %s", value));
 	}
 
 	public IntegerFieldValidator notEquals(int value){
-		return new IntegerFieldValidator(this, (i) -> i != value, Terminate.NONE, ErrorOn.FAILURE, format("should not be equal to %s", value));
+		return new IntegerFieldValidator(this, Constraint.notEqualTo("integer", (long) value, Constraint.CHEAP, (Integer i) -> i != value), Terminate.NONE, ErrorOn.FAILURE, Message.of("integer.notEquals", "should not be equal to %s", value));
 	}
 
 }
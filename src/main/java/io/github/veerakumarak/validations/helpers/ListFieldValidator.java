@@ -2,40 +2,44 @@ package io.github.veerakumarak.validations.helpers;
 
 import io.github.veerakumarak.validations.ErrorOn;
 import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
 import io.github.veerakumarak.validations.Terminate;
 import io.github.veerakumarak.validations.FieldValidator;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static java.lang.String.format;
-
 public class ListFieldValidator<K> extends FieldValidator<List<K>> {
 
-	private ListFieldValidator(Predicate<List<K>> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+	private ListFieldValidator(Predicate<List<K>> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
 		super(predicate, terminate, errorOn, onErrorMessage);
 	}
 
-    private ListFieldValidator(ListFieldValidator<K> other, Predicate<List<K>> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+    private ListFieldValidator(ListFieldValidator<K> other, Predicate<List<K>> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
         super(other, predicate, terminate, errorOn, onErrorMessage);
     }
 
+    private ListFieldValidator(ListFieldValidator<K> other, Predicate<List<K>> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage,
+							   Function<? super List<K>, List<Message>> describeFailure) {
+        super(other, predicate, terminate, errorOn, onErrorMessage, describeFailure);
+    }
+
     public static <K> ListFieldValidator<K> nonNull() {
-		return new ListFieldValidator<>(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, "list must be non null");
+		return new ListFieldValidator<>(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("list.nonNull", "list must be non null"));
 	}
 
 	public static <K> IValidation<List<K>> isNull() {
-		return new ListFieldValidator<>(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, "list must be null");
+		return new ListFieldValidator<>(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("list.isNull", "list must be null"));
 	}
 
 	public ListFieldValidator<K> moreThan(int size){
-		return new ListFieldValidator<K>(this, (l) -> l.size() >= size, Terminate.NONE, ErrorOn.FAILURE, format("must have more than %s size", size));
+		return new ListFieldValidator<K>(this, (l) -> l.size() >= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("list.moreThan", "must have more than %s size", size));
 	}
 	
 	public ListFieldValidator<K> lessThan(int size){
-		return new ListFieldValidator<K>(this, (l) -> l.size() <= size, Terminate.NONE, ErrorOn.FAILURE, format("must have less than %s size", size));
+		return new ListFieldValidator<K>(this, (l) -> l.size() <= size, Terminate.NONE, ErrorOn.FAILURE, Message.of("list.lessThan", "must have less than %s size", size));
 	}
 	
 	public ListFieldValidator<K> between(int minSize, int maxSize){
@@ -43,31 +47,44 @@ public class ListFieldValidator<K> extends FieldValidator<List<K>> {
 	}
 
 	public ListFieldValidator<K> contains(K item){
-		return new ListFieldValidator<K>(this, l -> l.contains(item), Terminate.NONE, ErrorOn.FAILURE, format("must contain %s", item));
+		return new ListFieldValidator<K>(this, l -> l.contains(item), Terminate.NONE, ErrorOn.FAILURE, Message.of("list.contains", "must contain %s", item));
 	}
 
 	public ListFieldValidator<K> containsAll(List<K> list){
-		return new ListFieldValidator<K>(this, l -> new HashSet<>(l).containsAll(list), Terminate.NONE, ErrorOn.FAILURE, format("must contain all of %s", list));
+		return new ListFieldValidator<K>(this, CollectionChecks.containsAll(list), Terminate.NONE, ErrorOn.FAILURE, Message.of("list.containsAll", "must contain all of %s", list));
 	}
 
 	public ListFieldValidator<K> notContains(K item){
-		return new ListFieldValidator<K>(this, l -> !l.contains(item), Terminate.NONE, ErrorOn.FAILURE, format("must contain %s", item));
+		return new ListFieldValidator<K>(this, l -> !l.contains(item), Terminate.NONE, ErrorOn.FAILURE, Message.of("list.notContains", "must not contain %s", item));
 	}
 
 	public ListFieldValidator<K> equals(List<K> list){
-		return new ListFieldValidator<K>(this, l -> l.equals(list), Terminate.NONE, ErrorOn.FAILURE, format("must be equal to %s", list));
+		return new ListFieldValidator<K>(this, l -> l.equals(list), Terminate.NONE, ErrorOn.FAILURE, Message.of("list.equals", "must be equal to %s", list));
 	}
 
 	public ListFieldValidator<K> notEquals(List<K> list){
-		return new ListFieldValidator<K>(this, l -> !l.equals(list), Terminate.NONE, ErrorOn.FAILURE, format("must be not equal to %s", list));
+		return new ListFieldValidator<K>(this, l -> !l.equals(list), Terminate.NONE, ErrorOn.FAILURE, Message.of("list.notEquals", "must be not equal to %s", list));
 	}
 
 	public ListFieldValidator<K> isEmpty(){
-		return new ListFieldValidator<K>(this, List::isEmpty, Terminate.NONE, ErrorOn.FAILURE, "must be empty");
+		return new ListFieldValidator<K>(this, List::isEmpty, Terminate.NONE, ErrorOn.FAILURE, Message.of("list.isEmpty", "must be empty"));
 	}
 
 	public ListFieldValidator<K> notEmpty(){
-		return new ListFieldValidator<K>(this, l -> !l.isEmpty(), Terminate.NONE, ErrorOn.FAILURE, "must be empty");
+		return new ListFieldValidator<K>(this, l -> !l.isEmpty(), Terminate.NONE, ErrorOn.FAILURE, Message.of("list.notEmpty", "must not be empty"));
+	}
+
+	public ListFieldValidator<K> allUnique(){
+		return new ListFieldValidator<K>(this, CollectionChecks::allUnique, Terminate.NONE, ErrorOn.FAILURE, Message.of("list.allUnique", "must not contain duplicates"));
+	}
+
+	/**
+	 * Validates every element with {@code validation}; each reason of a failing element is reported
+	 * with its index, e.g. {@code [3] must be greater than 0}.
+	 */
+	public ListFieldValidator<K> each(IValidation<K> validation){
+		return new ListFieldValidator<K>(this, CollectionChecks.each(validation), Terminate.NONE, ErrorOn.FAILURE, Message.of("list.each", "all elements must be valid"),
+				CollectionChecks.describeEach(validation, "list.each"));
 	}
 
 }
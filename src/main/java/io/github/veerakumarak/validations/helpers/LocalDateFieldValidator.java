@@ -1,71 +1,101 @@
 package io.github.veerakumarak.validations.helpers;
 
+import io.github.veerakumarak.validations.Constraint;
 import io.github.veerakumarak.validations.ErrorOn;
 import io.github.veerakumarak.validations.FieldValidator;
 import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
 import io.github.veerakumarak.validations.Terminate;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.Objects;
 import java.util.function.Predicate;
 
 public class LocalDateFieldValidator extends FieldValidator<LocalDate> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+	private static final String EPOCH_DAY = "localDate.epochDay";
 
-    private LocalDateFieldValidator(Predicate<LocalDate> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+    private LocalDateFieldValidator(Predicate<LocalDate> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
 		super(predicate, terminate, errorOn, onErrorMessage);
 	}
 
+	private LocalDateFieldValidator(LocalDateFieldValidator other, Predicate<LocalDate> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		super(other, predicate, terminate, errorOn, onErrorMessage);
+	}
+
 	public static LocalDateFieldValidator nonNull() {
-		return new LocalDateFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, "local date value must be non null");
+		return new LocalDateFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("localDate.nonNull", "local date value must be non null"));
 	}
 
 	public static IValidation<LocalDate> isNull() {
-		return new LocalDateFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, "local date value must be null");
+		return new LocalDateFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("localDate.isNull", "local date value must be null"));
 	}
 
 	public static LocalDateFieldValidator optional() {
-		return new LocalDateFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.NONE, "");
+		return new LocalDateFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.NONE, Message.text(""));
 	}
 
     public LocalDateFieldValidator before(LocalDate date) {
-        return new LocalDateFieldValidator(d -> d.isBefore(date), Terminate.NONE, ErrorOn.FAILURE, "must be before " + date);
+        return new LocalDateFieldValidator(this, epochDay(Long.MIN_VALUE, date.toEpochDay() - 1), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.before", "must be before %s", date));
     }
 
     public LocalDateFieldValidator after(LocalDate date) {
-        return new LocalDateFieldValidator(d -> d.isAfter(date), Terminate.NONE, ErrorOn.FAILURE, "must be after " + date);
+        return new LocalDateFieldValidator(this, epochDay(date.toEpochDay() + 1, Long.MAX_VALUE), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.after", "must be after %s", date));
     }
 
     public LocalDateFieldValidator beforeOrEqual(LocalDate date) {
-        return new LocalDateFieldValidator(d -> !d.isAfter(date), Terminate.NONE, ErrorOn.FAILURE, "must be on or before " + date);
+        return new LocalDateFieldValidator(this, epochDay(Long.MIN_VALUE, date.toEpochDay()), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.beforeOrEqual", "must be on or before %s", date));
     }
 
     public LocalDateFieldValidator afterOrEqual(LocalDate date) {
-        return new LocalDateFieldValidator(d -> !d.isBefore(date), Terminate.NONE, ErrorOn.FAILURE, "must be on or after " + date);
+        return new LocalDateFieldValidator(this, epochDay(date.toEpochDay(), Long.MAX_VALUE), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.afterOrEqual", "must be on or after %s", date));
     }
 
-    public LocalDateFieldValidator equal(LocalDate date) {
-        return new LocalDateFieldValidator(d -> d.equals(date), Terminate.NONE, ErrorOn.FAILURE, "must be equal " + date);
+    /**
+     * Both bounds inclusive, checked as one range on the epoch day.
+     */
+    public LocalDateFieldValidator between(LocalDate from, LocalDate to) {
+        return new LocalDateFieldValidator(this, epochDay(from.toEpochDay(), to.toEpochDay()), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.between", "must be between %s and %s", from, to));
     }
 
-    public LocalDateFieldValidator notEqual(LocalDate date) {
-        return new LocalDateFieldValidator(d -> !d.equals(date), Terminate.NONE, ErrorOn.FAILURE, "must be not equal " + date);
+    /**
+     * A {@code null} date is equal to no date, so the rule always fails.
+     */
+    public LocalDateFieldValidator equal(LocalDate date) {
+        Constraint<LocalDate> rule;
+        if (date == null) {
+            rule = Constraint.of(Constraint.CHEAP, d -> false);
+        } else {
+            long day = date.toEpochDay();
+            rule = Constraint.equalTo(EPOCH_DAY, day, Constraint.CHEAP, (LocalDate d) -> d.toEpochDay() == day);
+        }
+        return new LocalDateFieldValidator(this, rule, Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.equal", "must be equal %s", date));
     }
 
-    private static boolean isValidFormat(String dateString) {
-        try {
-            LocalDate.parse(dateString, DATE_FORMATTER);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+    /**
+     * A {@code null} date is equal to no date, so the rule always passes.
+     */
+    public LocalDateFieldValidator notEqual(LocalDate date) {
+        Constraint<LocalDate> rule;
+        if (date == null) {
+            rule = Constraint.of(Constraint.CHEAP, d -> true);
+        } else {
+            long day = date.toEpochDay();
+            rule = Constraint.notEqualTo(EPOCH_DAY, day, Constraint.CHEAP, (LocalDate d) -> d.toEpochDay() != day);
         }
+        return new LocalDateFieldValidator(this, rule, Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.notEqual", "must be not equal %s", date));
     }
 
+    /**
+     * The {@code yyyy} of the format is a year of era, so every date from year 1 on can be written in it.
+     */
     public static LocalDateFieldValidator validFormat() {
-        return new LocalDateFieldValidator(d -> isValidFormat(d.toString()), Terminate.NONE, ErrorOn.FAILURE, "must follow yyyy-MM-dd format");
+        return new LocalDateFieldValidator(d -> d.getYear() >= 1, Terminate.NONE, ErrorOn.FAILURE, Message.of("localDate.validFormat", "must follow yyyy-MM-dd format"));
     }
 
+	// bounds are compared as precomputed epoch days, and adjacent ranges are merged by optimized plans
+	private static Constraint<LocalDate> epochDay(long min, long max) {
+		return Constraint.range(EPOCH_DAY, LocalDate::toEpochDay, min, max);
+	}
+
 }
@@ -0,0 +1,173 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Checks that a date lies in one window, kept as two inclusive epoch-day bounds. Every builder method narrows
+ * the window, so any number of bounds costs a single range check per value. Bounds relative to today, such as
+ * {@link #withinLast(int, Clock)}, are resolved against the {@link Clock} on each validation, so a long-lived
+ * validator follows the calendar; tests can pass a fixed clock.
+ */
+public final class LocalDateRangeValidator implements IValidation<LocalDate> {
+
+	private static final Message NON_NULL = Message.of("localDateRange.nonNull", "should not be null");
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+	// an open bound; also used for relative bounds that are not set
+	private static final long OPEN_MIN = Long.MIN_VALUE;
+	private static final long OPEN_MAX = Long.MAX_VALUE;
+	// bounds such as before(LocalDate.MIN) fall outside what LocalDate can show and are clamped in messages
+	private static final long MIN_DAY = LocalDate.MIN.toEpochDay();
+	private static final long MAX_DAY = LocalDate.MAX.toEpochDay();
+
+	private final boolean nullable;
+	private final long min;
+	private final long max;
+	// null when no bound is relative
+	private final Clock clock;
+	// days from today, inclusive
+	private final long minOffset;
+	private final long maxOffset;
+
+	private LocalDateRangeValidator(boolean nullable, long min, long max, Clock clock, long minOffset, long maxOffset) {
+		this.nullable = nullable;
+		this.min = min;
+		this.max = max;
+		this.clock = clock;
+		this.minOffset = minOffset;
+		this.maxOffset = maxOffset;
+	}
+
+	public static LocalDateRangeValidator nonNull() {
+		return new LocalDateRangeValidator(false, OPEN_MIN, OPEN_MAX, null, OPEN_MIN, OPEN_MAX);
+	}
+
+	/**
+	 * A {@code null} value is valid.
+	 */
+	public static LocalDateRangeValidator optional() {
+		return new LocalDateRangeValidator(true, OPEN_MIN, OPEN_MAX, null, OPEN_MIN, OPEN_MAX);
+	}
+
+	public LocalDateRangeValidator before(LocalDate date) {
+		return fixed(OPEN_MIN, date.toEpochDay() - 1);
+	}
+
+	public LocalDateRangeValidator after(LocalDate date) {
+		return fixed(date.toEpochDay() + 1, OPEN_MAX);
+	}
+
+	public LocalDateRangeValidator beforeOrEqual(LocalDate date) {
+		return fixed(OPEN_MIN, date.toEpochDay());
+	}
+
+	public LocalDateRangeValidator afterOrEqual(LocalDate date) {
+		return fixed(date.toEpochDay(), OPEN_MAX);
+	}
+
+	/**
+	 * Both bounds inclusive.
+	 */
+	public LocalDateRangeValidator between(LocalDate from, LocalDate to) {
+		return fixed(from.toEpochDay(), to.toEpochDay());
+	}
+
+	/**
+	 * Today or one of the {@code days} days before it.
+	 */
+	public LocalDateRangeValidator withinLast(int days, Clock clock) {
+		return relative(clock, -requireDays(days), 0);
+	}
+
+	/**
+	 * Today or one of the {@code days} days after it.
+	 */
+	public LocalDateRangeValidator withinNext(int days, Clock clock) {
+		return relative(clock, 0, requireDays(days));
+	}
+
+	public LocalDateRangeValidator notInFuture(Clock clock) {
+		return relative(clock, OPEN_MIN, 0);
+	}
+
+	public LocalDateRangeValidator notInPast(Clock clock) {
+		return relative(clock, 0, OPEN_MAX);
+	}
+
+	private static int requireDays(int days) {
+		if (days < 0) {
+			throw new IllegalArgumentException("days must not be negative");
+		}
+		return days;
+	}
+
+	private LocalDateRangeValidator fixed(long from, long to) {
+		return new LocalDateRangeValidator(nullable, Math.max(min, from), Math.min(max, to), clock, minOffset, maxOffset);
+	}
+
+	private LocalDateRangeValidator relative(Clock clock, long from, long to) {
+		Objects.requireNonNull(clock);
+		if (this.clock != null && this.clock != clock) {
+			throw new IllegalArgumentException("All relative bounds must use the same clock");
+		}
+		return new LocalDateRangeValidator(nullable, min, max, clock, Math.max(minOffset, from), Math.min(maxOffset, to));
+	}
+
+	/**
+	 * Validates a date given as its epoch day, e.g. straight from a decoded record.
+	 */
+	public FieldResult validate(String field, long epochDay) {
+		long lower = min;
+		long upper = max;
+		if (clock != null) {
+			long today = today();
+			if (minOffset != OPEN_MIN) {
+				lower = Math.max(lower, today + minOffset);
+			}
+			if (maxOffset != OPEN_MAX) {
+				upper = Math.min(upper, today + maxOffset);
+			}
+		}
+		if (epochDay >= lower && epochDay <= upper) {
+			return FieldResult.ok(field);
+		}
+		return FieldResult.fail(field, outOfRange(lower, upper));
+	}
+
+	@Override
+	public FieldResult validate(String field, LocalDate param) {
+		if (param == null) {
+			return nullable ? FieldResult.ok(field) : FieldResult.fail(field, NON_NULL);
+		}
+		return validate(field, param.toEpochDay());
+	}
+
+	private long today() {
+		// UTC clocks, the common case for servers, need no time zone rules
+		if (clock.getZone() == ZoneOffset.UTC) {
+			return Math.floorDiv(clock.millis(), MILLIS_PER_DAY);
+		}
+		return LocalDate.now(clock).toEpochDay();
+	}
+
+	private static Message outOfRange(long lower, long upper) {
+		if (lower == OPEN_MIN) {
+			return Message.of("localDateRange.beforeOrEqual", "must be on or before %s", date(upper));
+		}
+		if (upper == OPEN_MAX) {
+			return Message.of("localDateRange.afterOrEqual", "must be on or after %s", date(lower));
+		}
+		return Message.of("localDateRange.between", "must be between %s and %s", date(lower), date(upper));
+	}
+
+	private static LocalDate date(long epochDay) {
+		return LocalDate.ofEpochDay(Math.max(MIN_DAY, Math.min(MAX_DAY, epochDay)));
+	}
+
+}
@@ -0,0 +1,150 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.ErrorOn;
+import io.github.veerakumarak.validations.FieldValidator;
+import io.github.veerakumarak.validations.Message;
+import io.github.veerakumarak.validations.Terminate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Validates {@code yyyy-MM-dd} dates in text or UTF-8 bytes without parsing them into a {@link LocalDate}.
+ * The text is scanned once per validation: the chain compiles to a null check and one date rule, which
+ * checks format and calendar and then runs every comparison on the scanned epoch day. A malformed date
+ * fails with a single {@code must follow yyyy-MM-dd format} reason.
+ *
+ * <pre>{@code
+ * IValidation<CharSequence> shipDate = LocalDateTextValidator.nonNull().afterOrEqual(LocalDate.of(2024, 1, 1));
+ * IValidation<ByteBuffer> shipDateBytes = LocalDateTextValidator.nonNullBytes().afterOrEqual(LocalDate.of(2024, 1, 1));
+ * }</pre>
+ */
+public class LocalDateTextValidator<K> extends FieldValidator<K> {
+
+	private static final Message VALID_FORMAT = Message.of("localDateText.validFormat", "must follow yyyy-MM-dd format");
+	private static final PredicateChain<LongPredicate> NO_COMPARISONS = PredicateChain.empty();
+
+	// the null check, which the date rule follows
+	private final FieldValidator<K> start;
+	private final ToLongFunction<K> epochDay;
+	private final PredicateChain<LongPredicate> comparisons;
+
+	private LocalDateTextValidator(FieldValidator<K> start, ToLongFunction<K> epochDay, PredicateChain<LongPredicate> comparisons) {
+		super(start, matches(epochDay, comparisons), Terminate.FAILURE, ErrorOn.FAILURE, VALID_FORMAT, describe(epochDay, comparisons));
+		this.start = start;
+		this.epochDay = epochDay;
+		this.comparisons = comparisons;
+	}
+
+	public static LocalDateTextValidator<CharSequence> nonNull() {
+		return nonNull(DateScanner::epochDay);
+	}
+
+	public static LocalDateTextValidator<CharSequence> optional() {
+		return optional(DateScanner::epochDay);
+	}
+
+	/**
+	 * Reads the date from the bytes between the buffer's position and limit.
+	 */
+	public static LocalDateTextValidator<ByteBuffer> nonNullBytes() {
+		return nonNull(DateScanner::epochDay);
+	}
+
+	public static LocalDateTextValidator<ByteBuffer> optionalBytes() {
+		return optional(DateScanner::epochDay);
+	}
+
+	private static <K> LocalDateTextValidator<K> nonNull(ToLongFunction<K> epochDay) {
+		FieldValidator<K> start = new FieldValidator<K>(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("localDateText.nonNull", "local date value must be non null")) {
+		};
+		return new LocalDateTextValidator<>(start, epochDay, NO_COMPARISONS);
+	}
+
+	private static <K> LocalDateTextValidator<K> optional(ToLongFunction<K> epochDay) {
+		FieldValidator<K> start = new FieldValidator<K>(Objects::nonNull, Terminate.FAILURE, ErrorOn.NONE, Message.text("")) {
+		};
+		return new LocalDateTextValidator<>(start, epochDay, NO_COMPARISONS);
+	}
+
+	// a single scan answers the format and every comparison
+	private static <K> Predicate<K> matches(ToLongFunction<K> epochDay, PredicateChain<LongPredicate> comparisons) {
+		return v -> {
+			long day = epochDay.applyAsLong(v);
+			if (day == DateScanner.INVALID) {
+				return false;
+			}
+			for (LongPredicate comparison : comparisons.freeze(LongPredicate[]::new).predicates()) {
+				if (!comparison.test(day)) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
+	// runs on failure only: the format reason, or one reason per failed comparison
+	private static <K> Function<K, List<Message>> describe(ToLongFunction<K> epochDay, PredicateChain<LongPredicate> comparisons) {
+		return v -> {
+			long day = epochDay.applyAsLong(v);
+			if (day == DateScanner.INVALID) {
+				return List.of(VALID_FORMAT);
+			}
+			PredicateChain.Frozen<LongPredicate> frozen = comparisons.freeze(LongPredicate[]::new);
+			List<Message> reasons = null;
+			for (int i = 0; i < frozen.predicates().length; i++) {
+				if (!frozen.predicates()[i].test(day)) {
+					reasons = PredicateChain.report(reasons, frozen.messages()[i]);
+				}
+			}
+			return reasons == null ? List.of() : reasons;
+		};
+	}
+
+	public LocalDateTextValidator<K> before(LocalDate date) {
+		long bound = date.toEpochDay();
+		return compare(d -> d < bound, Message.of("localDateText.before", "must be before %s", date));
+	}
+
+	public LocalDateTextValidator<K> after(LocalDate date) {
+		long bound = date.toEpochDay();
+		return compare(d -> d > bound, Message.of("localDateText.after", "must be after %s", date));
+	}
+
+	public LocalDateTextValidator<K> beforeOrEqual(LocalDate date) {
+		long bound = date.toEpochDay();
+		return compare(d -> d <= bound, Message.of("localDateText.beforeOrEqual", "must be on or before %s", date));
+	}
+
+	public LocalDateTextValidator<K> afterOrEqual(LocalDate date) {
+		long bound = date.toEpochDay();
+		return compare(d -> d >= bound, Message.of("localDateText.afterOrEqual", "must be on or after %s", date));
+	}
+
+	public LocalDateTextValidator<K> between(LocalDate from, LocalDate to) {
+		long lower = from.toEpochDay();
+		long upper = to.toEpochDay();
+		return compare(d -> d >= lower && d <= upper, Message.of("localDateText.between", "must be between %s and %s", from, to));
+	}
+
+	public LocalDateTextValidator<K> equal(LocalDate date) {
+		long bound = date.toEpochDay();
+		return compare(d -> d == bound, Message.of("localDateText.equal", "must be equal %s", date));
+	}
+
+	public LocalDateTextValidator<K> notEqual(LocalDate date) {
+		long bound = date.toEpochDay();
+		return compare(d -> d != bound, Message.of("localDateText.notEqual", "must be not equal %s", date));
+	}
+
+	private LocalDateTextValidator<K> compare(LongPredicate test, Message message) {
+		return new LocalDateTextValidator<>(start, epochDay, comparisons.then(test, message));
+	}
+
+}
@@ -2,6 +2,7 @@ package io.github.veerakumarak.validations.helpers;
 
 import io.github.veerakumarak.validations.ErrorOn;
 import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
 import io.github.veerakumarak.validations.Terminate;
 import io.github.veerakumarak.validations.FieldValidator;
 
@@ -12,44 +13,48 @@ import java.util.function.Predicate;
 
 public class LocalDateTimeFieldValidator extends FieldValidator<LocalDateTime> {
 
-	private LocalDateTimeFieldValidator(Predicate<LocalDateTime> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+	private LocalDateTimeFieldValidator(Predicate<LocalDateTime> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
 		super(predicate, terminate, errorOn, onErrorMessage);
 	}
 
+	private LocalDateTimeFieldValidator(LocalDateTimeFieldValidator other, Predicate<LocalDateTime> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
+		super(other, predicate, terminate, errorOn, onErrorMessage);
+	}
+
 	public static LocalDateTimeFieldValidator nonNull() {
-		return new LocalDateTimeFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, "local date time value must be non null");
+		return new LocalDateTimeFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("localDateTime.nonNull", "local date time value must be non null"));
 	}
 
 	public static IValidation<LocalDateTime> isNull() {
-		return new LocalDateTimeFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, "local date time value must be null");
+		return new LocalDateTimeFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("localDateTime.isNull", "local date time value must be null"));
 	}
 
 	public static LocalDateTimeFieldValidator optional() {
-		return new LocalDateTimeFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.NONE, "");
+		return new LocalDateTimeFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.NONE, Message.text(""));
 	}
 
     public LocalDateTimeFieldValidator before(LocalDateTime dateTime) {
-        return new LocalDateTimeFieldValidator(d -> d.isBefore(dateTime), Terminate.NONE, ErrorOn.FAILURE, "must be before " + dateTime);
+        return new LocalDateTimeFieldValidator(this, d -> d.isBefore(dateTime), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDateTime.before", "must be before %s", dateTime));
     }
 
     public LocalDateTimeFieldValidator after(LocalDateTime dateTime) {
-        return new LocalDateTimeFieldValidator(d -> d.isAfter(dateTime), Terminate.NONE, ErrorOn.FAILURE, "must be after " + dateTime);
+        return new LocalDateTimeFieldValidator(this, d -> d.isAfter(dateTime), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDateTime.after", "must be after %s", dateTime));
     }
 
     public LocalDateTimeFieldValidator beforeOrEqual(LocalDateTime dateTime) {
-        return new LocalDateTimeFieldValidator(d -> !d.isAfter(dateTime), Terminate.NONE, ErrorOn.FAILURE, "must be on or before " + dateTime);
+        return new LocalDateTimeFieldValidator(this, d -> !d.isAfter(dateTime), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDateTime.beforeOrEqual", "must be on or before %s", dateTime));
     }
 
     public LocalDateTimeFieldValidator afterOrEqual(LocalDateTime dateTime) {
-        return new LocalDateTimeFieldValidator(d -> !d.isBefore(dateTime), Terminate.NONE, ErrorOn.FAILURE, "must be on or after " + dateTime);
+        return new LocalDateTimeFieldValidator(this, d -> !d.isBefore(dateTime), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDateTime.afterOrEqual", "must be on or after %s", dateTime));
     }
 
     public LocalDateTimeFieldValidator equal(LocalDateTime dateTime) {
-        return new LocalDateTimeFieldValidator(d -> d.equals(dateTime), Terminate.NONE, ErrorOn.FAILURE, "must be equal " + dateTime);
+        return new LocalDateTimeFieldValidator(this, d -> d.equals(dateTime), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDateTime.equal", "must be equal %s", dateTime));
     }
 
     public LocalDateTimeFieldValidator notEqual(LocalDateTime dateTime) {
-        return new LocalDateTimeFieldValidator(d -> !d.equals(dateTime), Terminate.NONE, ErrorOn.FAILURE, "must be not equal " + dateTime);
+        return new LocalDateTimeFieldValidator(this, d -> !d.equals(dateTime), Terminate.NONE, ErrorOn.FAILURE, Message.of("localDateTime.notEqual", "must be not equal %s", dateTime));
     }
 
 }
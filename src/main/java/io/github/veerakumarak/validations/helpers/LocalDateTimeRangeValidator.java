@@ -0,0 +1,200 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Checks that a date-time lies in one window, kept as two inclusive bounds of epoch second and nano of second,
+ * both counted as if the local date-time were in UTC. Every builder method narrows the window, so any number of
+ * bounds costs a single range check per value. Bounds relative to now, such as
+ * {@link #withinLast(Duration, Clock)}, are resolved against the {@link Clock} on each validation, in the
+ * clock's time zone.
+ */
+public final class LocalDateTimeRangeValidator implements IValidation<LocalDateTime> {
+
+	private static final Message NON_NULL = Message.of("localDateTimeRange.nonNull", "should not be null");
+	private static final int NANOS_PER_SECOND = 1_000_000_000;
+	// relative bounds can reach past what LocalDateTime can show and are clamped in messages
+	private static final long MIN_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+	private static final long MAX_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+	private final boolean nullable;
+	// Long.MIN_VALUE and Long.MAX_VALUE seconds for an open bound
+	private final long minSecond;
+	private final int minNano;
+	private final long maxSecond;
+	private final int maxNano;
+	// null when no bound is relative
+	private final Clock clock;
+	// offsets from now, inclusive, null when not set
+	private final Duration minOffset;
+	private final Duration maxOffset;
+
+	private LocalDateTimeRangeValidator(boolean nullable, long minSecond, int minNano, long maxSecond, int maxNano,
+										Clock clock, Duration minOffset, Duration maxOffset) {
+		this.nullable = nullable;
+		this.minSecond = minSecond;
+		this.minNano = minNano;
+		this.maxSecond = maxSecond;
+		this.maxNano = maxNano;
+		this.clock = clock;
+		this.minOffset = minOffset;
+		this.maxOffset = maxOffset;
+	}
+
+	public static LocalDateTimeRangeValidator nonNull() {
+		return new LocalDateTimeRangeValidator(false, Long.MIN_VALUE, 0, Long.MAX_VALUE, NANOS_PER_SECOND - 1, null, null, null);
+	}
+
+	/**
+	 * A {@code null} value is valid.
+	 */
+	public static LocalDateTimeRangeValidator optional() {
+		return new LocalDateTimeRangeValidator(true, Long.MIN_VALUE, 0, Long.MAX_VALUE, NANOS_PER_SECOND - 1, null, null, null);
+	}
+
+	public LocalDateTimeRangeValidator beforeOrEqual(LocalDateTime dateTime) {
+		return narrow(Long.MIN_VALUE, 0, dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano());
+	}
+
+	public LocalDateTimeRangeValidator afterOrEqual(LocalDateTime dateTime) {
+		return narrow(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano(), Long.MAX_VALUE, NANOS_PER_SECOND - 1);
+	}
+
+	/**
+	 * Both bounds inclusive.
+	 */
+	public LocalDateTimeRangeValidator between(LocalDateTime from, LocalDateTime to) {
+		return narrow(from.toEpochSecond(ZoneOffset.UTC), from.getNano(), to.toEpochSecond(ZoneOffset.UTC), to.getNano());
+	}
+
+	/**
+	 * Now or at most {@code window} earlier, e.g. events from the last 30 days.
+	 */
+	public LocalDateTimeRangeValidator withinLast(Duration window, Clock clock) {
+		return relative(clock, requireWindow(window).negated(), Duration.ZERO);
+	}
+
+	/**
+	 * Now or at most {@code window} later.
+	 */
+	public LocalDateTimeRangeValidator withinNext(Duration window, Clock clock) {
+		return relative(clock, Duration.ZERO, requireWindow(window));
+	}
+
+	/**
+	 * At most {@code tolerance} after now, which allows for skew between the producer's clock and ours.
+	 */
+	public LocalDateTimeRangeValidator notInFuture(Duration tolerance, Clock clock) {
+		return relative(clock, null, tolerance);
+	}
+
+	private static Duration requireWindow(Duration window) {
+		if (window.isNegative()) {
+			throw new IllegalArgumentException("window must not be negative");
+		}
+		return window;
+	}
+
+	private LocalDateTimeRangeValidator narrow(long fromSecond, int fromNano, long toSecond, int toNano) {
+		boolean raiseMin = compare(fromSecond, fromNano, minSecond, minNano) > 0;
+		boolean lowerMax = compare(toSecond, toNano, maxSecond, maxNano) < 0;
+		return new LocalDateTimeRangeValidator(nullable, raiseMin ? fromSecond : minSecond, raiseMin ? fromNano : minNano,
+				lowerMax ? toSecond : maxSecond, lowerMax ? toNano : maxNano, clock, minOffset, maxOffset);
+	}
+
+	private LocalDateTimeRangeValidator relative(Clock clock, Duration from, Duration to) {
+		Objects.requireNonNull(clock);
+		if (this.clock != null && this.clock != clock) {
+			throw new IllegalArgumentException("All relative bounds must use the same clock");
+		}
+		Duration lower = minOffset == null || (from != null && from.compareTo(minOffset) > 0) ? from : minOffset;
+		Duration upper = maxOffset == null || (to != null && to.compareTo(maxOffset) < 0) ? to : maxOffset;
+		return new LocalDateTimeRangeValidator(nullable, minSecond, minNano, maxSecond, maxNano, clock, lower, upper);
+	}
+
+	/**
+	 * Validates a date-time given as epoch second and nano of second, counted as if it were in UTC.
+	 */
+	public FieldResult validate(String field, long epochSecond, int nano) {
+		long lowerSecond = minSecond;
+		int lowerNano = minNano;
+		long upperSecond = maxSecond;
+		int upperNano = maxNano;
+		if (clock != null) {
+			Instant instant = clock.instant();
+			long nowSecond = instant.getEpochSecond() + clock.getZone().getRules().getOffset(instant).getTotalSeconds();
+			int nowNano = instant.getNano();
+			if (minOffset != null) {
+				long second = nowSecond + minOffset.getSeconds();
+				int offsetNano = nowNano + minOffset.getNano();
+				if (offsetNano >= NANOS_PER_SECOND) {
+					second++;
+					offsetNano -= NANOS_PER_SECOND;
+				}
+				if (compare(second, offsetNano, lowerSecond, lowerNano) > 0) {
+					lowerSecond = second;
+					lowerNano = offsetNano;
+				}
+			}
+			if (maxOffset != null) {
+				long second = nowSecond + maxOffset.getSeconds();
+				int offsetNano = nowNano + maxOffset.getNano();
+				if (offsetNano >= NANOS_PER_SECOND) {
+					second++;
+					offsetNano -= NANOS_PER_SECOND;
+				}
+				if (compare(second, offsetNano, upperSecond, upperNano) < 0) {
+					upperSecond = second;
+					upperNano = offsetNano;
+				}
+			}
+		}
+		if (compare(epochSecond, nano, lowerSecond, lowerNano) >= 0 && compare(epochSecond, nano, upperSecond, upperNano) <= 0) {
+			return FieldResult.ok(field);
+		}
+		return FieldResult.fail(field, outOfRange(lowerSecond, lowerNano, upperSecond, upperNano));
+	}
+
+	@Override
+	public FieldResult validate(String field, LocalDateTime param) {
+		if (param == null) {
+			return nullable ? FieldResult.ok(field) : FieldResult.fail(field, NON_NULL);
+		}
+		return validate(field, param.toEpochSecond(ZoneOffset.UTC), param.getNano());
+	}
+
+	private static int compare(long second, int nano, long otherSecond, int otherNano) {
+		int bySecond = Long.compare(second, otherSecond);
+		return bySecond != 0 ? bySecond : Integer.compare(nano, otherNano);
+	}
+
+	private static Message outOfRange(long lowerSecond, int lowerNano, long upperSecond, int upperNano) {
+		if (lowerSecond == Long.MIN_VALUE) {
+			return Message.of("localDateTimeRange.beforeOrEqual", "must be on or before %s", dateTime(upperSecond, upperNano));
+		}
+		if (upperSecond == Long.MAX_VALUE) {
+			return Message.of("localDateTimeRange.afterOrEqual", "must be on or after %s", dateTime(lowerSecond, lowerNano));
+		}
+		return Message.of("localDateTimeRange.between", "must be between %s and %s", dateTime(lowerSecond, lowerNano), dateTime(upperSecond, upperNano));
+	}
+
+	private static LocalDateTime dateTime(long epochSecond, int nano) {
+		if (epochSecond < MIN_SECOND) {
+			return LocalDateTime.MIN;
+		}
+		if (epochSecond > MAX_SECOND) {
+			return LocalDateTime.MAX;
+		}
+		return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+	}
+
+}
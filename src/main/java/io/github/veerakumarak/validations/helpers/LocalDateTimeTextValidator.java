@@ -0,0 +1,153 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.ErrorOn;
+import io.github.veerakumarak.validations.FieldValidator;
+import io.github.veerakumarak.validations.Message;
+import io.github.veerakumarak.validations.Terminate;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Validates ISO local date-times ({@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]}, the format of
+ * {@link LocalDateTime#toString()}) in text or UTF-8 bytes without parsing them into a {@link LocalDateTime}.
+ * The text is scanned once per validation, as in {@link LocalDateTextValidator}. Comparisons work on epoch
+ * seconds and read the fraction at most once, when the seconds equal a bound.
+ */
+public class LocalDateTimeTextValidator<K> extends FieldValidator<K> {
+
+	private static final Message VALID_FORMAT = Message.of("localDateTimeText.validFormat", "must follow yyyy-MM-ddTHH:mm:ss format");
+	private static final PredicateChain<Bound> NO_COMPARISONS = PredicateChain.empty();
+
+	// a comparison with one date-time; test receives the sign of (value - bound)
+	private record Bound(long second, int nano, IntPredicate test) {
+	}
+
+	// the null check, which the date-time rule follows
+	private final FieldValidator<K> start;
+	private final ToLongFunction<K> epochSecond;
+	private final ToIntFunction<K> nanos;
+	private final PredicateChain<Bound> comparisons;
+
+	private LocalDateTimeTextValidator(FieldValidator<K> start, ToLongFunction<K> epochSecond, ToIntFunction<K> nanos, PredicateChain<Bound> comparisons) {
+		super(start, matches(epochSecond, nanos, comparisons), Terminate.FAILURE, ErrorOn.FAILURE, VALID_FORMAT, describe(epochSecond, nanos, comparisons));
+		this.start = start;
+		this.epochSecond = epochSecond;
+		this.nanos = nanos;
+		this.comparisons = comparisons;
+	}
+
+	public static LocalDateTimeTextValidator<CharSequence> nonNull() {
+		return nonNull(DateScanner::epochSecond, DateScanner::nanos);
+	}
+
+	public static LocalDateTimeTextValidator<CharSequence> optional() {
+		return optional(DateScanner::epochSecond, DateScanner::nanos);
+	}
+
+	/**
+	 * Reads the date-time from the bytes between the buffer's position and limit.
+	 */
+	public static LocalDateTimeTextValidator<ByteBuffer> nonNullBytes() {
+		return nonNull(DateScanner::epochSecond, DateScanner::nanos);
+	}
+
+	public static LocalDateTimeTextValidator<ByteBuffer> optionalBytes() {
+		return optional(DateScanner::epochSecond, DateScanner::nanos);
+	}
+
+	private static <K> LocalDateTimeTextValidator<K> nonNull(ToLongFunction<K> epochSecond, ToIntFunction<K> nanos) {
+		FieldValidator<K> start = new FieldValidator<K>(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("localDateTimeText.nonNull", "local date time value must be non null")) {
+		};
+		return new LocalDateTimeTextValidator<>(start, epochSecond, nanos, NO_COMPARISONS);
+	}
+
+	private static <K> LocalDateTimeTextValidator<K> optional(ToLongFunction<K> epochSecond, ToIntFunction<K> nanos) {
+		FieldValidator<K> start = new FieldValidator<K>(Objects::nonNull, Terminate.FAILURE, ErrorOn.NONE, Message.text("")) {
+		};
+		return new LocalDateTimeTextValidator<>(start, epochSecond, nanos, NO_COMPARISONS);
+	}
+
+	// a single scan answers the format and every comparison
+	private static <K> Predicate<K> matches(ToLongFunction<K> epochSecond, ToIntFunction<K> nanos, PredicateChain<Bound> comparisons) {
+		return v -> {
+			long second = epochSecond.applyAsLong(v);
+			if (second == DateScanner.INVALID) {
+				return false;
+			}
+			int nano = -1;
+			for (Bound bound : comparisons.freeze(Bound[]::new).predicates()) {
+				int sign = Long.compare(second, bound.second());
+				if (sign == 0) {
+					if (nano < 0) {
+						nano = nanos.applyAsInt(v);
+					}
+					sign = Integer.compare(nano, bound.nano());
+				}
+				if (!bound.test().test(sign)) {
+					return false;
+				}
+			}
+			return true;
+		};
+	}
+
+	// runs on failure only: the format reason, or one reason per failed comparison
+	private static <K> Function<K, List<Message>> describe(ToLongFunction<K> epochSecond, ToIntFunction<K> nanos, PredicateChain<Bound> comparisons) {
+		return v -> {
+			long second = epochSecond.applyAsLong(v);
+			if (second == DateScanner.INVALID) {
+				return List.of(VALID_FORMAT);
+			}
+			int nano = nanos.applyAsInt(v);
+			PredicateChain.Frozen<Bound> frozen = comparisons.freeze(Bound[]::new);
+			List<Message> reasons = null;
+			for (int i = 0; i < frozen.predicates().length; i++) {
+				Bound bound = frozen.predicates()[i];
+				int sign = second != bound.second() ? Long.compare(second, bound.second()) : Integer.compare(nano, bound.nano());
+				if (!bound.test().test(sign)) {
+					reasons = PredicateChain.report(reasons, frozen.messages()[i]);
+				}
+			}
+			return reasons == null ? List.of() : reasons;
+		};
+	}
+
+	public LocalDateTimeTextValidator<K> before(LocalDateTime dateTime) {
+		return compare(dateTime, c -> c < 0, Message.of("localDateTimeText.before", "must be before %s", dateTime));
+	}
+
+	public LocalDateTimeTextValidator<K> after(LocalDateTime dateTime) {
+		return compare(dateTime, c -> c > 0, Message.of("localDateTimeText.after", "must be after %s", dateTime));
+	}
+
+	public LocalDateTimeTextValidator<K> beforeOrEqual(LocalDateTime dateTime) {
+		return compare(dateTime, c -> c <= 0, Message.of("localDateTimeText.beforeOrEqual", "must be on or before %s", dateTime));
+	}
+
+	public LocalDateTimeTextValidator<K> afterOrEqual(LocalDateTime dateTime) {
+		return compare(dateTime, c -> c >= 0, Message.of("localDateTimeText.afterOrEqual", "must be on or after %s", dateTime));
+	}
+
+	public LocalDateTimeTextValidator<K> equal(LocalDateTime dateTime) {
+		return compare(dateTime, c -> c == 0, Message.of("localDateTimeText.equal", "must be equal %s", dateTime));
+	}
+
+	public LocalDateTimeTextValidator<K> notEqual(LocalDateTime dateTime) {
+		return compare(dateTime, c -> c != 0, Message.of("localDateTimeText.notEqual", "must be not equal %s", dateTime));
+	}
+
+	private LocalDateTimeTextValidator<K> compare(LocalDateTime dateTime, IntPredicate test, Message message) {
+		Bound bound = new Bound(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano(), test);
+		return new LocalDateTimeTextValidator<>(start, epochSecond, nanos, comparisons.then(bound, message));
+	}
+
+}
@@ -0,0 +1,89 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
+
+import java.util.List;
+import java.util.function.LongPredicate;
+
+/**
+ * Validator for {@code long} values. Rules are {@link LongPredicate}s evaluated
+ * against {@link #validate(String, long)}, so neither the caller nor the rules box the value.
+ */
+public final class LongValidator implements IValidation<Long> {
+
+	private static final PredicateChain<LongPredicate> NO_RULES = PredicateChain.empty();
+	private static final Message NON_NULL = Message.of("long.nonNull", "should not be null");
+
+	private final boolean nullable;
+	private final PredicateChain<LongPredicate> rules;
+
+	private LongValidator(boolean nullable, PredicateChain<LongPredicate> rules) {
+		this.nullable = nullable;
+		this.rules = rules;
+	}
+
+	/**
+	 * A {@code null} boxed value fails with "should not be null"; has no effect on primitive input.
+	 */
+	public static LongValidator nonNull() {
+		return new LongValidator(false, NO_RULES);
+	}
+
+	/**
+	 * A {@code null} boxed value is valid and skips all rules; has no effect on primitive input.
+	 */
+	public static LongValidator optional() {
+		return new LongValidator(true, NO_RULES);
+	}
+
+	public LongValidator lowerThan(long max){
+		return satisfies((i) -> i < max, Message.of("long.lowerThan", "should be lower than %s", max));
+	}
+
+	public LongValidator greaterThan(long min){
+		return satisfies((i) -> i > min, Message.of("long.greaterThan", "should be greater than %s", min));
+	}
+
+	public LongValidator between(long min, long max){
+		return greaterThan(min).lowerThan(max);
+	}
+
+	public LongValidator equals(long value){
+		return satisfies((i) -> i == value, Message.of("long.equals", "should be equal to %s", value));
+	}
+
+	public LongValidator notEquals(long value){
+		return satisfies((i) -> i != value, Message.of("long.notEquals", "should not be equal to %s", value));
+	}
+
+	public LongValidator satisfies(LongPredicate predicate, String onErrorMessage){
+		return new LongValidator(nullable, rules.then(predicate, onErrorMessage));
+	}
+
+	public LongValidator satisfies(LongPredicate predicate, Message onErrorMessage){
+		return new LongValidator(nullable, rules.then(predicate, onErrorMessage));
+	}
+
+	public FieldResult validate(String field, long param) {
+		PredicateChain.Frozen<LongPredicate> frozen = rules.freeze(LongPredicate[]::new);
+		LongPredicate[] predicates = frozen.predicates();
+		List<Message> reasons = null;
+		for (int i = 0; i < predicates.length; i++) {
+			if (!predicates[i].test(param)) {
+				reasons = PredicateChain.report(reasons, frozen.messages()[i]);
+			}
+		}
+		return PredicateChain.result(field, reasons);
+	}
+
+	@Override
+	public FieldResult validate(String field, Long param) {
+		if (param == null) {
+			return nullable ? FieldResult.ok(field) : FieldResult.fail(field, NON_NULL);
+		}
+		return validate(field, param.longValue());
+	}
+
+}
@@ -0,0 +1,50 @@
+package io.github.veerakumarak.validations.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, least-recently-used cache of compiled {@link Pattern}s for regexes that are only known at
+ * runtime (e.g. read from tenant configuration). Lookups happen when a validator is built, not when it
+ * validates, so a single lock is enough.
+ */
+public final class PatternCache {
+
+	private static final int DEFAULT_MAX_ENTRIES = 256;
+	private static final PatternCache SHARED = new PatternCache(DEFAULT_MAX_ENTRIES);
+
+	private final Map<String, Pattern> patterns;
+
+	public PatternCache(int maxEntries) {
+		if (maxEntries <= 0) {
+			throw new IllegalArgumentException("maxEntries must be positive");
+		}
+		this.patterns = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Process-wide cache holding up to 256 patterns.
+	 */
+	public static PatternCache shared() {
+		return SHARED;
+	}
+
+	public Pattern get(String regex) {
+		synchronized (patterns) {
+			return patterns.computeIfAbsent(regex, Pattern::compile);
+		}
+	}
+
+	public int size() {
+		synchronized (patterns) {
+			return patterns.size();
+		}
+	}
+
+}
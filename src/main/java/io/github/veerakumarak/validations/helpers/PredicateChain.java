@@ -0,0 +1,84 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.FieldResult;
+import io.github.veerakumarak.validations.Message;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Rules of the primitive validators, kept as a linked chain while the validator is built. Adding a rule links
+ * one node onto the previous chain, and the chain is frozen into arrays on first use, as a
+ * {@code FieldValidator} is into a {@code ValidationPlan}. {@code P} is the predicate type, e.g. {@code IntPredicate}.
+ */
+final class PredicateChain<P> {
+
+	private final PredicateChain<P> previous;
+	private final P predicate;
+	private final Message message;
+	private final int size;
+
+	// frozen on first use; immutable with final fields, so a racy publish is safe
+	private Frozen<P> frozen;
+
+	/**
+	 * The rules in the order they were added.
+	 */
+	record Frozen<P>(P[] predicates, Message[] messages) {
+	}
+
+	private PredicateChain(PredicateChain<P> previous, P predicate, Message message, int size) {
+		this.previous = previous;
+		this.predicate = predicate;
+		this.message = message;
+		this.size = size;
+	}
+
+	/**
+	 * An empty chain. Each validator type keeps its own, the frozen arrays are typed by the predicate.
+	 */
+	static <P> PredicateChain<P> empty() {
+		return new PredicateChain<>(null, null, null, 0);
+	}
+
+	PredicateChain<P> then(P predicate, Message onErrorMessage) {
+		return new PredicateChain<>(this, predicate, onErrorMessage, size + 1);
+	}
+
+	PredicateChain<P> then(P predicate, String onErrorMessage) {
+		// like FieldValidator, a null text reads as an empty reason
+		return then(predicate, Message.text(onErrorMessage == null ? "" : onErrorMessage));
+	}
+
+	Frozen<P> freeze(IntFunction<P[]> newArray) {
+		Frozen<P> compiled = frozen;
+		if (compiled == null) {
+			P[] predicates = newArray.apply(size);
+			Message[] messages = new Message[size];
+			for (PredicateChain<P> node = this; node.size > 0; node = node.previous) {
+				predicates[node.size - 1] = node.predicate;
+				messages[node.size - 1] = node.message;
+			}
+			compiled = new Frozen<>(predicates, messages);
+			frozen = compiled;
+		}
+		return compiled;
+	}
+
+	/**
+	 * Adds {@code message} to {@code reasons}, which is allocated on the first failure only.
+	 */
+	static List<Message> report(List<Message> reasons, Message message) {
+		if (reasons == null) {
+			reasons = new ArrayList<>(2);
+		}
+		reasons.add(message);
+		return reasons;
+	}
+
+	static FieldResult result(String field, List<Message> reasons) {
+		return reasons == null ? FieldResult.ok(field) : FieldResult.failWith(field, reasons);
+	}
+
+}
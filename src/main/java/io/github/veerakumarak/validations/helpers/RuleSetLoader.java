@@ -0,0 +1,166 @@
+package io.github.veerakumarak.validations.helpers;
+
+import io.github.veerakumarak.validations.CompilationMode;
+import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.RuleSet;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * Builds a {@link RuleSet} from a properties file, one {@code <field>.<rule>=<value>} entry per rule:
+ *
+ * <pre>
+ * sku.type=string
+ * sku.maxLength=40
+ * sku.matchesRegex=[A-Z]+-\\d+
+ * quantity.type=integer
+ * quantity.optional=true
+ * quantity.greaterThan=0
+ * # tenant acme allows shorter skus, everything else is inherited from sku
+ * acme/sku.maxLength=20
+ * </pre>
+ *
+ * Rules are named after the builder methods of {@link StringFieldValidator} ({@code minLength}, {@code maxLength},
+ * {@code notEmpty}, {@code equals}, {@code notEquals}, {@code contains}, {@code matchesRegex}) and
+ * {@link IntegerFieldValidator} ({@code greaterThan}, {@code lowerThan}, {@code equals}, {@code notEquals}) and
+ * applied in that order. {@code optional=true} accepts null and {@code mode} picks a {@link CompilationMode}.
+ * Every validator is compiled once, when the file is loaded. A malformed entry fails the whole load with an
+ * {@link IllegalArgumentException} naming it, so a bad edit never replaces a working rule set.
+ */
+public final class RuleSetLoader {
+
+	private RuleSetLoader() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	public static RuleSet load(Path file) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		return load(properties);
+	}
+
+	public static RuleSet load(Properties properties) {
+		Map<String, Map<String, String>> defaults = new HashMap<>();
+		Map<String, Map<String, Map<String, String>>> tenants = new HashMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			int dot = key.lastIndexOf('.');
+			if (dot <= 0 || dot == key.length() - 1) {
+				throw new IllegalArgumentException("Expected <field>.<rule> or <tenant>/<field>.<rule>, got: " + key);
+			}
+			String target = key.substring(0, dot);
+			int slash = target.indexOf('/');
+			Map<String, Map<String, String>> fields = slash < 0 ? defaults : tenants.computeIfAbsent(target.substring(0, slash), t -> new HashMap<>());
+			fields.computeIfAbsent(target.substring(slash + 1), f -> new HashMap<>()).put(key.substring(dot + 1), properties.getProperty(key).trim());
+		}
+
+		RuleSet.Builder rules = RuleSet.builder();
+		defaults.forEach((field, spec) -> rules.add(field, validation(field, spec)));
+		tenants.forEach((tenant, fields) -> fields.forEach((field, overrides) -> {
+			Map<String, String> spec = new HashMap<>(defaults.getOrDefault(field, Map.of()));
+			spec.putAll(overrides);
+			rules.add(tenant, field, validation(tenant + "/" + field, spec));
+		}));
+		return rules.build();
+	}
+
+	private static IValidation<?> validation(String field, Map<String, String> spec) {
+		Map<String, String> rules = new HashMap<>(spec);
+		String type = rules.remove("type");
+		boolean optional = flag(field, "optional", rules.remove("optional"));
+		String modeName = rules.remove("mode");
+		CompilationMode mode = modeName == null ? CompilationMode.INTERPRETED : parse(field, "mode", modeName.toUpperCase(Locale.ROOT), CompilationMode::valueOf);
+
+		IValidation<?> validation;
+		if ("string".equals(type)) {
+			validation = string(field, optional, rules).compile(mode);
+		} else if ("integer".equals(type)) {
+			validation = integer(field, optional, rules).compile(mode);
+		} else {
+			throw new IllegalArgumentException(field + ".type must be string or integer, got: " + type);
+		}
+		if (!rules.isEmpty()) {
+			throw new IllegalArgumentException("Unknown " + type + " rules for " + field + ": " + rules.keySet());
+		}
+		return validation;
+	}
+
+	// consumes the rules it applies, whatever is left over is unknown
+	private static StringFieldValidator string(String field, boolean optional, Map<String, String> rules) {
+		StringFieldValidator validator = optional ? StringFieldValidator.optional() : StringFieldValidator.nonNull();
+		String value;
+		if ((value = rules.remove("minLength")) != null) {
+			validator = validator.minLength(number(field, "minLength", value));
+		}
+		if ((value = rules.remove("maxLength")) != null) {
+			validator = validator.maxLength(number(field, "maxLength", value));
+		}
+		if ((value = rules.remove("notEmpty")) != null && flag(field, "notEmpty", value)) {
+			validator = validator.notEmpty();
+		}
+		if ((value = rules.remove("equals")) != null) {
+			validator = validator.equals(value);
+		}
+		if ((value = rules.remove("notEquals")) != null) {
+			validator = validator.notEquals(value);
+		}
+		if ((value = rules.remove("contains")) != null) {
+			validator = validator.contains(value);
+		}
+		if ((value = rules.remove("matchesRegex")) != null) {
+			validator = validator.matchesRegex(value, PatternCache.shared());
+		}
+		return validator;
+	}
+
+	private static IntegerFieldValidator integer(String field, boolean optional, Map<String, String> rules) {
+		IntegerFieldValidator validator = optional ? IntegerFieldValidator.optional() : IntegerFieldValidator.nonNull();
+		String value;
+		if ((value = rules.remove("greaterThan")) != null) {
+			validator = validator.greaterThan(number(field, "greaterThan", value));
+		}
+		if ((value = rules.remove("lowerThan")) != null) {
+			validator = validator.lowerThan(number(field, "lowerThan", value));
+		}
+		if ((value = rules.remove("equals")) != null) {
+			validator = validator.equals(number(field, "equals", value));
+		}
+		if ((value = rules.remove("notEquals")) != null) {
+			validator = validator.notEquals(number(field, "notEquals", value));
+		}
+		return validator;
+	}
+
+	private static int number(String field, String rule, String value) {
+		return parse(field, rule, value, Integer::parseInt);
+	}
+
+	private static boolean flag(String field, String rule, String value) {
+		if (value == null || value.equals("false")) {
+			return false;
+		}
+		if (value.equals("true")) {
+			return true;
+		}
+		throw new IllegalArgumentException(field + "." + rule + " must be true or false, got: " + value);
+	}
+
+	private static <T> T parse(String field, String rule, String value, Function<String, T> parser) {
+		try {
+			return parser.apply(value);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid " + field + "." + rule + ": " + value, e);
+		}
+	}
+
+}
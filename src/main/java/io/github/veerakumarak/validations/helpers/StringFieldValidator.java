@@ -1,43 +1,45 @@
 package io.github.veerakumarak.validations.helpers;
 
+import io.github.veerakumarak.validations.Constraint;
 import io.github.veerakumarak.validations.ErrorOn;
 import io.github.veerakumarak.validations.IValidation;
+import io.github.veerakumarak.validations.Message;
 import io.github.veerakumarak.validations.Terminate;
 import io.github.veerakumarak.validations.FieldValidator;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.function.Predicate;
-
-import static java.lang.String.format;
+import java.util.regex.Pattern;
 
 public class StringFieldValidator extends FieldValidator<String> {
 
-	private StringFieldValidator(Predicate<String> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+	private StringFieldValidator(Predicate<String> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
 		super(predicate, terminate, errorOn, onErrorMessage);
 	}
 
-	private StringFieldValidator(StringFieldValidator other, Predicate<String> predicate, Terminate terminate, ErrorOn errorOn, String onErrorMessage) {
+	private StringFieldValidator(StringFieldValidator other, Predicate<String> predicate, Terminate terminate, ErrorOn errorOn, Message onErrorMessage) {
 		super(other, predicate, terminate, errorOn, onErrorMessage);
 	}
 
 	public static StringFieldValidator nonNull() {
-		return new StringFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, "should not be null");
+		return new StringFieldValidator(Objects::nonNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("string.nonNull", "should not be null"));
 	}
 
 	public static IValidation<String> isNull() {
-		return new StringFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, "should be null");
+		return new StringFieldValidator(Objects::isNull, Terminate.FAILURE, ErrorOn.FAILURE, Message.of("string.isNull", "should be null"));
 	}
 
 	public static StringFieldValidator optional() {
-		return new StringFieldValidator(Objects::isNull, Terminate.SUCCESS, ErrorOn.NONE, "");
+		return new StringFieldValidator(Objects::isNull, Terminate.SUCCESS, ErrorOn.NONE, Message.text(""));
 	}
 
 	public StringFieldValidator minLength(int size){
-		return new StringFieldValidator(this, (s) -> s.length() >= size, Terminate.NONE, ErrorOn.FAILURE, format("should have at least %s characters", size));
+		return new StringFieldValidator(this, Constraint.range("string.length", String::length, size, Long.MAX_VALUE), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.minLength", "should have at least %s characters", size));
 	}
 	
 	public StringFieldValidator maxLength(int size){
-		return new StringFieldValidator(this, (s) -> s.length() <= size, Terminate.NONE, ErrorOn.FAILURE, format("should not exceed %s characters", size));
+		return new StringFieldValidator(this, Constraint.range("string.length", String::length, Long.MIN_VALUE, size), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.maxLength", "should not exceed %s characters", size));
 	}
 	
 	public StringFieldValidator lengthBetween(int minSize, int maxSize){
@@ -45,27 +47,54 @@ public class StringFieldValidator extends FieldValidator<String> {
 	}
 	
 	public StringFieldValidator contains(String subString){
-		return new StringFieldValidator(this, (s) -> s.contains(subString), Terminate.NONE, ErrorOn.FAILURE, format("should contain %s", subString));
+		return new StringFieldValidator(this, Constraint.of(Constraint.LINEAR, (String s) -> s.contains(subString)), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.contains", "should contain %s", subString));
 	}
 
 	public StringFieldValidator equals(String value){
-		return new StringFieldValidator(this, (s) -> s.equals(value), Terminate.NONE, ErrorOn.FAILURE, format("should be equal to %s", value));
+		return new StringFieldValidator(this, Constraint.equalTo("string", value, Constraint.LINEAR, (String s) -> s.equals(value)), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.equals", "should be equal to %s", value));
 	}
 
 	public StringFieldValidator notEquals(String value){
-		return new StringFieldValidator(this, (s) -> !s.equals(value), Terminate.NONE, ErrorOn.FAILURE, format("should not be equal to %s", value));
+		return new StringFieldValidator(this, Constraint.notEqualTo("string", value, Constraint.LINEAR, (String s) -> !s.equals(value)), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.notEquals", "should not be equal to %s", value));
+	}
+
+	/**
+	 * Passes when the value is exactly one of {@code values}. The values are compiled into a trie once, so a
+	 * check costs time linear in the value's length however many values are allowed.
+	 */
+	public StringFieldValidator oneOf(Collection<String> values){
+		StringTrie allowed = StringTrie.of(values);
+		return new StringFieldValidator(this, Constraint.of(Constraint.LINEAR, allowed::matches), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.oneOf", "should be one of %s allowed values", allowed.size()));
+	}
+
+	/**
+	 * Passes when none of {@code values} occurs in the value. The values are compiled into an Aho-Corasick
+	 * automaton once, so a check is a single pass over the value however many values are denied. The message
+	 * does not repeat the value that was found.
+	 */
+	public StringFieldValidator containsNoneOf(Collection<String> values){
+		StringTrie denied = StringTrie.withFailureLinks(values);
+		return new StringFieldValidator(this, Constraint.of(Constraint.LINEAR, (String s) -> !denied.occursIn(s)), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.containsNoneOf", "should not contain any of %s denied values", denied.size()));
 	}
 
 	public StringFieldValidator isEmpty(){
-		return new StringFieldValidator(this, String::isEmpty, Terminate.NONE, ErrorOn.FAILURE, "should be empty");
+		return new StringFieldValidator(this, Constraint.range("string.length", String::length, 0, 0), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.isEmpty", "should be empty"));
 	}
 
 	public StringFieldValidator notEmpty(){
-		return new StringFieldValidator(this, (s) -> !s.isEmpty(), Terminate.NONE, ErrorOn.FAILURE, "should not be empty");
+		return new StringFieldValidator(this, Constraint.range("string.length", String::length, 1, Long.MAX_VALUE), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.notEmpty", "should not be empty"));
 	}
 
 	public StringFieldValidator matchesRegex(String regex){
-		return new StringFieldValidator(this, (s) -> s == null || s.matches(regex), Terminate.NONE, ErrorOn.FAILURE, format("must match regex %s", regex));
+		return matchesRegex(Pattern.compile(regex));
+	}
+
+	public StringFieldValidator matchesRegex(String regex, PatternCache cache){
+		return matchesRegex(cache.get(regex));
+	}
+
+	public StringFieldValidator matchesRegex(Pattern pattern){
+		return new StringFieldValidator(this, Constraint.of(Constraint.EXPENSIVE, (String s) -> s == null || pattern.matcher(s).matches()), Terminate.NONE, ErrorOn.FAILURE, Message.of("string.matchesRegex", "must match regex %s", pattern.pattern()));
 	}
 
 }
@@ -0,0 +1,192 @@
+package io.github.veerakumarak.validations.helpers;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable trie over a set of strings, stored as primitive arrays with the children of each node in one
+ * sorted slice (compressed sparse rows), so a million-node trie is a handful of arrays rather than a million
+ * objects. {@link #matches} walks it for exact membership; {@link #occursIn} runs it as an Aho-Corasick
+ * automaton over failure links, finding any of the strings inside a text in one pass over the text.
+ * Both cost time linear in the input, whatever the number of strings.
+ */
+final class StringTrie {
+
+	private static final int ROOT = 0;
+
+	// children of node n are edges childStart[n] to childStart[n + 1], sorted by childChar
+	private final int[] childStart;
+	private final char[] childChar;
+	private final int[] childNode;
+	// a string ends at the node; with failure links, also one of its suffixes
+	private final boolean[] terminal;
+	// longest proper suffix of the node's path that is also in the trie, null for exact matching only
+	private final int[] fail;
+	private final int size;
+
+	private StringTrie(int[] childStart, char[] childChar, int[] childNode, boolean[] terminal, int[] fail, int size) {
+		this.childStart = childStart;
+		this.childChar = childChar;
+		this.childNode = childNode;
+		this.terminal = terminal;
+		this.fail = fail;
+		this.size = size;
+	}
+
+	/**
+	 * Trie for {@link #matches}.
+	 */
+	static StringTrie of(Collection<String> values) {
+		return build(values, false);
+	}
+
+	/**
+	 * Trie with failure links for {@link #occursIn}.
+	 */
+	static StringTrie withFailureLinks(Collection<String> values) {
+		return build(values, true);
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean matches(CharSequence text) {
+		int node = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			node = child(node, text.charAt(i));
+			if (node < 0) {
+				return false;
+			}
+		}
+		return terminal[node];
+	}
+
+	/**
+	 * Whether any of the strings occurs in {@code text}; needs {@link #withFailureLinks}.
+	 */
+	boolean occursIn(CharSequence text) {
+		if (terminal[ROOT]) {
+			return true;
+		}
+		int node = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			int next = child(node, c);
+			// each fallback shortens the match, so over the whole text there are at most as many as characters
+			while (next < 0 && node != ROOT) {
+				node = fail[node];
+				next = child(node, c);
+			}
+			node = next < 0 ? ROOT : next;
+			if (terminal[node]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int child(int node, char c) {
+		int low = childStart[node];
+		int high = childStart[node + 1] - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			char midChar = childChar[mid];
+			if (midChar < c) {
+				low = mid + 1;
+			} else if (midChar > c) {
+				high = mid - 1;
+			} else {
+				return childNode[mid];
+			}
+		}
+		return -1;
+	}
+
+	private static StringTrie build(Collection<String> values, boolean failureLinks) {
+		String[] sorted = values.toArray(new String[0]);
+		Arrays.sort(sorted);
+		int unique = 0;
+		long characters = 0;
+		for (String value : sorted) {
+			if (unique == 0 || !value.equals(sorted[unique - 1])) {
+				sorted[unique++] = value;
+				characters += value.length();
+			}
+		}
+		if (characters >= Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many characters for one trie: " + characters);
+		}
+
+		// at most one node per character plus the root, trimmed once the real count is known
+		int bound = (int) characters + 1;
+		int[] childStart = new int[bound + 1];
+		char[] childChar = new char[bound];
+		int[] childNode = new int[bound];
+		boolean[] terminal = new boolean[bound];
+		// the strings below a node are one slice of the sorted array, from[n] to to[n], sharing depth[n] characters
+		int[] from = new int[bound];
+		int[] to = new int[bound];
+		int[] depth = new int[bound];
+
+		// nodes are numbered in breadth first order, which the failure links are computed in
+		to[ROOT] = unique;
+		int nodes = 1;
+		int edges = 0;
+		for (int node = 0; node < nodes; node++) {
+			childStart[node] = edges;
+			int d = depth[node];
+			int i = from[node];
+			// sorting puts the one string that ends here first
+			if (i < to[node] && sorted[i].length() == d) {
+				terminal[node] = true;
+				i++;
+			}
+			while (i < to[node]) {
+				char c = sorted[i].charAt(d);
+				int j = i + 1;
+				while (j < to[node] && sorted[j].charAt(d) == c) {
+					j++;
+				}
+				from[nodes] = i;
+				to[nodes] = j;
+				depth[nodes] = d + 1;
+				childChar[edges] = c;
+				childNode[edges] = nodes;
+				edges++;
+				nodes++;
+				i = j;
+			}
+		}
+		childStart[nodes] = edges;
+
+		StringTrie trie = new StringTrie(Arrays.copyOf(childStart, nodes + 1), Arrays.copyOf(childChar, edges),
+				Arrays.copyOf(childNode, edges), Arrays.copyOf(terminal, nodes), failureLinks ? new int[nodes] : null, unique);
+		if (failureLinks) {
+			trie.linkFailures(nodes);
+		}
+		return trie;
+	}
+
+	private void linkFailures(int nodes) {
+		for (int node = 0; node < nodes; node++) {
+			for (int edge = childStart[node]; edge < childStart[node + 1]; edge++) {
+				int child = childNode[edge];
+				int target = ROOT;
+				if (node != ROOT) {
+					int suffix = fail[node];
+					int next = child(suffix, childChar[edge]);
+					while (next < 0 && suffix != ROOT) {
+						suffix = fail[suffix];
+						next = child(suffix, childChar[edge]);
+					}
+					target = Math.max(next, ROOT);
+				}
+				fail[child] = target;
+				// the suffix is shallower, so its own flag is already final
+				terminal[child] |= terminal[target];
+			}
+		}
+	}
+
+}
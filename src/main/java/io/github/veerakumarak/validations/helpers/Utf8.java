@@ -0,0 +1,207 @@
+package io.github.veerakumarak.validations.helpers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 checks over the bytes between a buffer's position and limit. Only absolute gets are used, so heap,
+ * direct and memory mapped buffers are read in place and their position is never moved.
+ */
+final class Utf8 {
+
+	// high bit of every byte in a long, set for any non ASCII byte
+	private static final long NON_ASCII = 0x8080808080808080L;
+
+	private Utf8() {
+	}
+
+	static byte[] encode(CharSequence text) {
+		return text.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	static boolean isAscii(ByteBuffer buffer) {
+		int i = buffer.position();
+		int limit = buffer.limit();
+		// eight bytes per read; the byte order does not matter for the mask
+		for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+			if ((buffer.getLong(i) & NON_ASCII) != 0) {
+				return false;
+			}
+		}
+		for (; i < limit; i++) {
+			if (buffer.get(i) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static boolean isAscii(CharSequence text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) >= 0x80) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Number of code points in well-formed UTF-8, or -1 for malformed input: bad lead or continuation bytes,
+	 * overlong forms, surrogates, values above U+10FFFF and truncated sequences.
+	 */
+	static int codePointCount(ByteBuffer buffer) {
+		int count = 0;
+		int i = buffer.position();
+		int limit = buffer.limit();
+		while (i < limit) {
+			int b = buffer.get(i) & 0xFF;
+			if (b < 0x80) {
+				i++;
+			} else if (b < 0xC2) {
+				return -1;
+			} else if (b < 0xE0) {
+				if (i + 1 >= limit || !continuation(buffer.get(i + 1))) {
+					return -1;
+				}
+				i += 2;
+			} else if (b < 0xF0) {
+				if (i + 2 >= limit) {
+					return -1;
+				}
+				int b1 = buffer.get(i + 1) & 0xFF;
+				if ((b == 0xE0 && b1 < 0xA0) || (b == 0xED && b1 > 0x9F) || !continuation((byte) b1) || !continuation(buffer.get(i + 2))) {
+					return -1;
+				}
+				i += 3;
+			} else if (b < 0xF5) {
+				if (i + 3 >= limit) {
+					return -1;
+				}
+				int b1 = buffer.get(i + 1) & 0xFF;
+				if ((b == 0xF0 && b1 < 0x90) || (b == 0xF4 && b1 > 0x8F) || !continuation((byte) b1)
+						|| !continuation(buffer.get(i + 2)) || !continuation(buffer.get(i + 3))) {
+					return -1;
+				}
+				i += 4;
+			} else {
+				return -1;
+			}
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Bytes needed to encode {@code text} as UTF-8; unpaired surrogates count as the one byte {@code ?} they are replaced with.
+	 */
+	static long encodedLength(CharSequence text) {
+		long bytes = 0;
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				bytes++;
+			} else if (c < 0x800) {
+				bytes += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+				bytes += 4;
+				i++;
+			} else if (Character.isSurrogate(c)) {
+				bytes++;
+			} else {
+				bytes += 3;
+			}
+		}
+		return bytes;
+	}
+
+	static boolean contentEquals(ByteBuffer buffer, byte[] expected) {
+		if (buffer.remaining() != expected.length) {
+			return false;
+		}
+		int base = buffer.position();
+		for (int i = 0; i < expected.length; i++) {
+			if (buffer.get(base + i) != expected[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static boolean startsWith(ByteBuffer buffer, byte[] prefix) {
+		if (buffer.remaining() < prefix.length) {
+			return false;
+		}
+		return regionMatches(buffer, buffer.position(), prefix);
+	}
+
+	/**
+	 * Whether {@code needle} occurs in the buffer. UTF-8 is self-synchronizing, so a byte match of a
+	 * well-formed needle is also a code point match.
+	 */
+	static boolean contains(ByteBuffer buffer, byte[] needle) {
+		if (needle.length == 0) {
+			return true;
+		}
+		byte first = needle[0];
+		int last = buffer.limit() - needle.length;
+		for (int i = buffer.position(); i <= last; i++) {
+			if (buffer.get(i) == first && regionMatches(buffer, i, needle)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether every byte is an ASCII character marked in {@code allowed}, a table indexed by character.
+	 */
+	static boolean allIn(ByteBuffer buffer, boolean[] allowed) {
+		for (int i = buffer.position(); i < buffer.limit(); i++) {
+			int b = buffer.get(i);
+			if (b < 0 || !allowed[b]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static boolean allIn(CharSequence text, boolean[] allowed) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c >= 0x80 || !allowed[c]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Lookup table for {@link #allIn}; {@code characters} must be ASCII.
+	 */
+	static boolean[] asciiTable(String characters) {
+		boolean[] allowed = new boolean[0x80];
+		for (int i = 0; i < characters.length(); i++) {
+			char c = characters.charAt(i);
+			if (c >= 0x80) {
+				throw new IllegalArgumentException("Only ASCII characters can be allowed, got: " + c);
+			}
+			allowed[c] = true;
+		}
+		return allowed;
+	}
+
+	private static boolean regionMatches(ByteBuffer buffer, int from, byte[] bytes) {
+		for (int j = 0; j < bytes.length; j++) {
+			if (buffer.get(from + j) != bytes[j]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean continuation(byte b) {
+		return (b & 0xC0) == 0x80;
+	}
+
+}
@@ -0,0 +1,97 @@
+package io.github.veerakumarak.validations.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts passes, failures and sampled predicate time per field and rule. Counters are {@link LongAdder}s,
+ * which stripe updates across cells under contention; a {@link #snapshot()} sums them.
+ */
+public final class InMemoryValidationMetrics implements ValidationListener {
+
+	// stands in for a null field name, which ConcurrentHashMap cannot hold as a key
+	private static final Object NULL_FIELD = new Object();
+
+	private final int samplingInterval;
+	// field -> rule -> counters; two levels so a lookup never allocates a composite key
+	private final Map<Object, Map<String, Counters>> counters = new ConcurrentHashMap<>();
+
+	public record RuleStats(String field, String rule, long passed, long failed, long samples, long sampledNanos) {
+
+		public long evaluations() {
+			return passed + failed;
+		}
+
+		public double failureRate() {
+			long evaluations = evaluations();
+			return evaluations == 0 ? 0 : (double) failed / evaluations;
+		}
+
+		public double meanNanos() {
+			return samples == 0 ? 0 : (double) sampledNanos / samples;
+		}
+
+	}
+
+	private static final class Counters {
+
+		private final LongAdder passed = new LongAdder();
+		private final LongAdder failed = new LongAdder();
+		private final LongAdder samples = new LongAdder();
+		private final LongAdder sampledNanos = new LongAdder();
+
+	}
+
+	public InMemoryValidationMetrics() {
+		this(64);
+	}
+
+	public InMemoryValidationMetrics(int samplingInterval) {
+		if (samplingInterval < 0) {
+			throw new IllegalArgumentException("samplingInterval must not be negative");
+		}
+		this.samplingInterval = samplingInterval;
+	}
+
+	@Override
+	public void onRule(String field, String rule, boolean passed, long nanos) {
+		Object key = field == null ? NULL_FIELD : field;
+		Map<String, Counters> rules = counters.get(key);
+		if (rules == null) {
+			rules = counters.computeIfAbsent(key, f -> new ConcurrentHashMap<>());
+		}
+		Counters ruleCounters = rules.get(rule);
+		if (ruleCounters == null) {
+			ruleCounters = rules.computeIfAbsent(rule, r -> new Counters());
+		}
+		(passed ? ruleCounters.passed : ruleCounters.failed).increment();
+		if (nanos >= 0) {
+			ruleCounters.samples.increment();
+			ruleCounters.sampledNanos.add(nanos);
+		}
+	}
+
+	@Override
+	public int samplingInterval() {
+		return samplingInterval;
+	}
+
+	/**
+	 * Current totals, one entry per field and rule seen so far. Counters keep running while the snapshot
+	 * is taken, so the values of different rules are not from one instant.
+	 */
+	public List<RuleStats> snapshot() {
+		List<RuleStats> stats = new ArrayList<>();
+		counters.forEach((key, rules) -> rules.forEach((rule, c) -> stats.add(new RuleStats(
+				key == NULL_FIELD ? null : (String) key, rule, c.passed.sum(), c.failed.sum(), c.samples.sum(), c.sampledNanos.sum()))));
+		return stats;
+	}
+
+	public void reset() {
+		counters.clear();
+	}
+
+}
@@ -0,0 +1,43 @@
+package io.github.veerakumarak.validations.metrics;
+
+/**
+ * Emits an {@code io.github.veerakumarak.validations.RuleEvaluation} JFR event for every sampled rule
+ * evaluation, so validation hotspots show up in flight recordings. Unsampled evaluations are ignored,
+ * and nothing is recorded unless a recording enables the event.
+ */
+public final class JfrValidationListener implements ValidationListener {
+
+	private final int samplingInterval;
+
+	public JfrValidationListener() {
+		this(64);
+	}
+
+	public JfrValidationListener(int samplingInterval) {
+		if (samplingInterval < 0) {
+			throw new IllegalArgumentException("samplingInterval must not be negative");
+		}
+		this.samplingInterval = samplingInterval;
+	}
+
+	@Override
+	public void onRule(String field, String rule, boolean passed, long nanos) {
+		if (nanos < 0) {
+			return;
+		}
+		RuleEvaluationEvent event = new RuleEvaluationEvent();
+		if (event.shouldCommit()) {
+			event.field = field;
+			event.rule = rule;
+			event.passed = passed;
+			event.predicateTime = nanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public int samplingInterval() {
+		return samplingInterval;
+	}
+
+}
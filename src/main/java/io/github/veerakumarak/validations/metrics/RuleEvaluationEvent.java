@@ -0,0 +1,31 @@
+package io.github.veerakumarak.validations.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("io.github.veerakumarak.validations.RuleEvaluation")
+@Label("Rule Evaluation")
+@Category({"Java Validations"})
+@Description("A sampled evaluation of one validation rule")
+@StackTrace(false)
+final class RuleEvaluationEvent extends Event {
+
+	@Label("Field")
+	String field;
+
+	@Label("Rule")
+	String rule;
+
+	@Label("Passed")
+	boolean passed;
+
+	@Label("Predicate Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long predicateTime;
+
+}
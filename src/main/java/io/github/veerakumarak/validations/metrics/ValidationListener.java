@@ -0,0 +1,24 @@
+package io.github.veerakumarak.validations.metrics;
+
+/**
+ * Receives one callback per rule evaluated by a compiled validation while installed through
+ * {@link ValidationMetrics#install(ValidationListener)}. Called on the validating thread, so implementations
+ * must be thread safe and cheap.
+ */
+public interface ValidationListener {
+
+	/**
+	 * @param field the field being validated
+	 * @param rule  the rule's message code, e.g. {@code string.minLength}, or its message when it has no code
+	 * @param nanos time spent in the rule's predicate, or {@code -1} when this evaluation was not sampled
+	 */
+	void onRule(String field, String rule, boolean passed, long nanos);
+
+	/**
+	 * One in this many validations is timed; {@code 1} times every validation and {@code 0} none.
+	 */
+	default int samplingInterval() {
+		return 64;
+	}
+
+}
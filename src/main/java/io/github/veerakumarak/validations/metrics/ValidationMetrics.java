@@ -0,0 +1,39 @@
+package io.github.veerakumarak.validations.metrics;
+
+import java.util.Objects;
+
+/**
+ * Process wide switch for rule instrumentation. While no listener is installed, validations only pay for
+ * reading one volatile field.
+ */
+public final class ValidationMetrics {
+
+	private static volatile ValidationListener listener;
+
+	private ValidationMetrics() {
+		throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+	}
+
+	/**
+	 * Routes rule evaluations of every compiled validation to {@code listener}, replacing the previous one.
+	 */
+	public static void install(ValidationListener listener) {
+		Objects.requireNonNull(listener, "Listener cannot be null.");
+		if (listener.samplingInterval() < 0) {
+			throw new IllegalArgumentException("samplingInterval must not be negative");
+		}
+		ValidationMetrics.listener = listener;
+	}
+
+	public static void uninstall() {
+		listener = null;
+	}
+
+	/**
+	 * The installed listener, or null when instrumentation is disabled.
+	 */
+	public static ValidationListener listener() {
+		return listener;
+	}
+
+}
@@ -0,0 +1,130 @@
+package io.github.veerakumarak.validations;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class AsyncValidationTest extends TestCase {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    // stands in for a remote lookup; every call waits until all expected lookups have started
+    private static final class StubLookup {
+
+        private final Set<String> taken;
+        private final CountDownLatch started;
+
+        StubLookup(Set<String> taken, int concurrentCalls) {
+            this.taken = taken;
+            this.started = new CountDownLatch(concurrentCalls);
+        }
+
+        AsyncValidation<String> notTaken() {
+            return AsyncValidation.blocking((field, value) -> {
+                started.countDown();
+                try {
+                    if (!started.await(5, TimeUnit.SECONDS)) {
+                        return FieldResult.fail(field, "lookups did not run concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return FieldResult.fail(field, "interrupted");
+                }
+                return taken.contains(value) ? FieldResult.fail(field, "is already taken") : FieldResult.ok(field);
+            });
+        }
+
+    }
+
+    public AsyncValidationTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(AsyncValidationTest.class);
+    }
+
+    public void testChecksRunConcurrently() {
+        AsyncValidation<String> notTaken = new StubLookup(Set.of("admin"), 3).notTaken();
+
+        ValidationResult result = Validator.allValidAsync(Integer.MAX_VALUE, List.of(
+                notTaken.validate("username", "alice"),
+                notTaken.validate("alias", "admin"),
+                notTaken.validate("nickname", "bob")
+        ), TIMEOUT).join();
+
+        assertEquals(Map.of("alias", List.of("is already taken")), result.reasons());
+    }
+
+    public void testFirstFailureCancelsRemainingChecks() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AsyncValidation<String> hangs = AsyncValidation.blocking((field, value) -> {
+            started.countDown();
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return FieldResult.ok(field);
+        });
+        CompletableFuture<FieldResult> slow = hangs.validate("sku", "A-1");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ValidationResult result = Validator.allValidAsync(List.of(
+                slow,
+                CompletableFuture.completedFuture(FieldResult.fail("name", "should not be empty"))
+        ), TIMEOUT).join();
+
+        assertEquals(Map.of("name", List.of("should not be empty")), result.reasons());
+        assertTrue(slow.isCancelled());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    public void testKeepsAnInterruptTheCallerAlreadyHad() {
+        AsyncValidation<String> check = AsyncValidation.blocking(
+                (field, value) -> FieldResult.ok(field), Runnable::run);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertTrue(check.validate("sku", "A-1").join().valid());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    public void testAnyValidCompletesAtFirstValidCheck() {
+        CompletableFuture<FieldResult> never = new CompletableFuture<>();
+
+        ValidationResult result = Validator.anyValidAsync(List.of(
+                never,
+                CompletableFuture.completedFuture(FieldResult.ok("email"))
+        ), TIMEOUT).join();
+
+        assertTrue(result.valid());
+        assertTrue(never.isCancelled());
+    }
+
+    public void testTimeout() {
+        CompletableFuture<FieldResult> never = new CompletableFuture<>();
+        try {
+            Validator.allValidAsync(List.of(never), Duration.ofMillis(50)).join();
+            fail("expected a timeout");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertTrue(never.isCancelled());
+    }
+
+}
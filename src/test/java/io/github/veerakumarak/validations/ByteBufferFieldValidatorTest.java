@@ -0,0 +1,178 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.ByteBufferFieldValidator;
+import io.github.veerakumarak.validations.helpers.CharSequenceFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ByteBufferFieldValidatorTest extends TestCase {
+
+    public ByteBufferFieldValidatorTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(ByteBufferFieldValidatorTest.class);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i] = (byte) values[i];
+        }
+        return bytes;
+    }
+
+    // content between position and limit, with other bytes around it
+    private static ByteBuffer buffer(byte[] content, boolean direct) {
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(content.length + 6) : ByteBuffer.allocate(content.length + 6);
+        buffer.put(bytes(0xC3, 0xFF, 0x80)).put(content).put(bytes(0xE2, 0x82, 0xFF));
+        buffer.position(3).limit(3 + content.length);
+        return buffer;
+    }
+
+    private static ByteBuffer utf8(String text) {
+        return buffer(text.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    // code points per the JDK decoder, or -1 when it reports malformed input
+    private static int decodedLength(byte[] content) {
+        try {
+            CharBuffer chars = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(content));
+            return chars.codePoints().toArray().length;
+        } catch (CharacterCodingException e) {
+            return -1;
+        }
+    }
+
+    private static List<byte[]> malformed() {
+        return List.of(
+                bytes(0x80),                   // continuation without lead
+                bytes(0xC0, 0xAF),             // overlong '/'
+                bytes(0xC1, 0xBF),             // overlong
+                bytes(0xE0, 0x80, 0xAF),       // overlong in three bytes
+                bytes(0xF0, 0x80, 0x80, 0xAF), // overlong in four bytes
+                bytes(0xED, 0xA0, 0x80),       // high surrogate U+D800
+                bytes(0xED, 0xBF, 0xBF),       // low surrogate U+DFFF
+                bytes(0xF4, 0x90, 0x80, 0x80), // U+110000
+                bytes(0xF5, 0x80, 0x80, 0x80), // lead byte past U+10FFFF
+                bytes(0xFF),
+                bytes(0xC3),                   // truncated
+                bytes(0xE2, 0x82),
+                bytes(0xF0, 0x9F, 0x98),
+                bytes(0x61, 0xC3, 0x28),       // bad continuation
+                bytes(0xE2, 0x28, 0xA1));
+    }
+
+    public void testValidUtf8MatchesTheDecoder() {
+        ByteBufferFieldValidator validator = ByteBufferFieldValidator.nonNull().validUtf8();
+        List<byte[]> inputs = new ArrayList<>(malformed());
+        for (String text : List.of("", "plain", "café", "€100", "😀", "\ud7ff\ue000\uffff", "\udbff\udfff")) {
+            inputs.add(text.getBytes(StandardCharsets.UTF_8));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            byte[] noise = new byte[random.nextInt(12)];
+            for (int j = 0; j < noise.length; j++) {
+                // mostly bytes near the interesting boundaries
+                noise[j] = (byte) (random.nextBoolean() ? 0x80 + random.nextInt(0x80) : random.nextInt(0x100));
+            }
+            inputs.add(noise);
+        }
+        for (byte[] input : inputs) {
+            boolean valid = decodedLength(input) >= 0;
+            for (boolean direct : new boolean[]{false, true}) {
+                ByteBuffer buffer = buffer(input, direct);
+                assertEquals(List.of(input).toString(), valid, validator.validate("name", buffer).valid());
+                assertEquals(3, buffer.position());
+                assertEquals(3 + input.length, buffer.limit());
+            }
+        }
+        assertEquals(List.of("should be valid UTF-8"), validator.validate("name", buffer(bytes(0xC0, 0xAF), false)).reasons());
+    }
+
+    public void testLengthCountsCodePoints() {
+        ByteBufferFieldValidator validator = ByteBufferFieldValidator.nonNull().lengthBetween(2, 3);
+
+        assertTrue(validator.validate("name", utf8("😀é")).valid());
+        assertTrue(validator.validate("name", utf8("€€€")).valid());
+        assertEquals(List.of("should have at least 2 characters"), validator.validate("name", utf8("😀")).reasons());
+        assertEquals(List.of("should not exceed 3 characters"), validator.validate("name", utf8("abcd")).reasons());
+
+        for (byte[] input : malformed()) {
+            // short in bytes, so only decoding can tell
+            assertFalse(ByteBufferFieldValidator.nonNull().maxLength(10).validate("name", buffer(input, false)).valid());
+            assertFalse(ByteBufferFieldValidator.nonNull().minLength(1).validate("name", buffer(input, true)).valid());
+        }
+        assertTrue(ByteBufferFieldValidator.nonNull().maxLength(10).validate("name", utf8("")).valid());
+    }
+
+    public void testAsciiReadsWholeWords() {
+        ByteBufferFieldValidator validator = ByteBufferFieldValidator.nonNull().ascii();
+        byte[] text = "abcdefghijklmnopqrstuvw".getBytes(StandardCharsets.US_ASCII);
+        assertTrue(validator.validate("name", buffer(text, false)).valid());
+        assertTrue(validator.validate("name", buffer(text, true)).valid());
+        // the surrounding bytes are not ASCII, so reads past position or limit would fail the rule
+        for (int i = 0; i < text.length; i++) {
+            byte[] copy = text.clone();
+            copy[i] = (byte) 0x80;
+            assertFalse("at " + i, validator.validate("name", buffer(copy, false)).valid());
+            assertFalse("at " + i, validator.validate("name", buffer(copy, true)).valid());
+        }
+        ByteBuffer slice = buffer(text, true).slice();
+        slice.position(5);
+        assertTrue(validator.validate("name", slice).valid());
+        assertEquals(5, slice.position());
+        assertEquals(List.of("should only contain ASCII characters"), validator.validate("name", utf8("naïve")).reasons());
+    }
+
+    public void testContentRulesStayWithinPositionAndLimit() {
+        ByteBuffer sku = utf8("€SKU-42");
+        assertTrue(ByteBufferFieldValidator.nonNull().startsWith("€").contains("-4").equals("€SKU-42").validate("sku", sku).valid());
+        assertEquals(3, sku.position());
+        assertFalse(ByteBufferFieldValidator.nonNull().contains("€SKU-42€").validate("sku", sku).valid());
+        assertFalse(ByteBufferFieldValidator.nonNull().equals("SKU-42").validate("sku", sku).valid());
+        assertEquals(List.of("should only contain the characters ABCDEFGHIJKLMNOPQRSTUVWXYZ-0123456789"),
+                ByteBufferFieldValidator.nonNull().onlyChars("ABCDEFGHIJKLMNOPQRSTUVWXYZ-0123456789").validate("sku", sku).reasons());
+        assertTrue(ByteBufferFieldValidator.nonNull().isEmpty().validate("sku", utf8("")).valid());
+        assertEquals(List.of("should not be null"), ByteBufferFieldValidator.nonNull().validate("sku", null).reasons());
+    }
+
+    public void testMaxUtf8BytesMatchesTheEncoder() {
+        List<String> texts = List.of("", "abc", "café", "€", "😀", "\uD83D", "\uDE00", "a\uDE00\uD83D",
+                "\uD83D😀", "\uDE00😀\uD83D");
+        for (String text : texts) {
+            int expected = text.getBytes(StandardCharsets.UTF_8).length;
+            assertTrue(text, CharSequenceFieldValidator.nonNull().maxUtf8Bytes(expected).validate("name", text).valid());
+            if (expected > 0) {
+                assertFalse(text, CharSequenceFieldValidator.nonNull().maxUtf8Bytes(expected - 1).validate("name", new StringBuilder(text)).valid());
+            }
+        }
+        assertEquals(List.of("should not exceed 3 bytes"), CharSequenceFieldValidator.nonNull().maxUtf8Bytes(3).validate("name", "😀").reasons());
+    }
+
+    public void testCharSequenceRules() {
+        CharSequenceFieldValidator validator = CharSequenceFieldValidator.nonNull().codePointsBetween(1, 2).ascii();
+        assertEquals(List.of("should only contain ASCII characters"), validator.validate("name", "😀😀").reasons());
+        assertEquals(List.of("should have between 1 and 2 characters", "should only contain ASCII characters"),
+                validator.validate("name", "😀😀é").reasons());
+        assertTrue(validator.validate("name", new StringBuilder("ok")).valid());
+        assertTrue(CharSequenceFieldValidator.nonNull().contains("lo w").equals("hello world").validate("name", new StringBuilder("hello world")).valid());
+        assertFalse(CharSequenceFieldValidator.nonNull().contains("low").validate("name", "lo").valid());
+        assertTrue(CharSequenceFieldValidator.optional().minLength(3).validate("name", null).valid());
+    }
+
+}
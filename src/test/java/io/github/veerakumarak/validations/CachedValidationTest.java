@@ -0,0 +1,46 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.List;
+
+public class CachedValidationTest extends TestCase {
+
+    public CachedValidationTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(CachedValidationTest.class);
+    }
+
+    public void testHitsKeepTheCallersFieldName() {
+        CachedValidation<String> currency = StringFieldValidator.nonNull().matchesRegex("[A-Z]{3}").cached(100);
+
+        assertEquals(List.of("must match regex [A-Z]{3}"), currency.validate("price.currency", "usd").reasons());
+        FieldResult hit = currency.validate("fee.currency", "usd");
+        assertFalse(hit.valid());
+        assertEquals("fee.currency", hit.field());
+        assertEquals(List.of("must match regex [A-Z]{3}"), hit.reasons());
+        assertSame(FieldResult.ok("fee.currency"), currency.validate("fee.currency", "USD"));
+
+        CachedValidation.Stats stats = currency.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+    }
+
+    public void testSizeIsBounded() {
+        CachedValidation<String> code = StringFieldValidator.nonNull().matchesRegex("[A-Z]{2}").cached(20);
+        for (int i = 0; i < 1000; i++) {
+            code.validate("country", "C" + i);
+        }
+        CachedValidation.Stats stats = code.stats();
+        assertTrue(stats.size() <= 20);
+        assertEquals(1000 - stats.size(), stats.evictions());
+    }
+
+}
@@ -0,0 +1,176 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.CollectionFieldValidator;
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.ListFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class CollectionFieldValidatorTest extends TestCase {
+
+    public CollectionFieldValidatorTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(CollectionFieldValidatorTest.class);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    public void testMessages() {
+        CollectionFieldValidator<String> tags = CollectionFieldValidator.<String>nonNull().notContains("x").notEmpty();
+
+        FieldResult result = tags.validate("tags", List.of("x"));
+        assertEquals(List.of("must not contain x"), result.reasons());
+        assertEquals("collection.notContains", result.messages().get(0).code());
+
+        result = tags.validate("tags", List.of());
+        assertEquals(List.of("must not be empty"), result.reasons());
+        assertEquals("collection.notEmpty", result.messages().get(0).code());
+
+        assertEquals(List.of("collection must be non null"), tags.validate("tags", null).reasons());
+        assertTrue(tags.validate("tags", List.of("y")).valid());
+    }
+
+    public void testContainsAllProbesSmallListsAndSets() {
+        CollectionFieldValidator<Integer> validator = CollectionFieldValidator.<Integer>nonNull().containsAll(List.of(3, 5, 7, 5));
+
+        // 3 distinct values times 10 elements stays under the probe limit
+        assertTrue(validator.validate("ids", range(0, 10)).valid());
+        assertFalse(validator.validate("ids", range(4, 10)).valid());
+        assertEquals(List.of("must contain all of [3, 5, 7, 5]"), validator.validate("ids", List.of(3, 5)).reasons());
+        // fewer elements than required values fails without looking
+        assertFalse(validator.validate("ids", List.of(3, 5)).valid());
+
+        assertTrue(validator.validate("ids", new LinkedHashSet<>(range(0, 1000))).valid());
+        assertFalse(validator.validate("ids", new LinkedHashSet<>(range(4, 1000))).valid());
+    }
+
+    public void testContainsAllOfNullInImmutableCollections() {
+        CollectionFieldValidator<String> validator = CollectionFieldValidator.<String>nonNull().containsAll(Arrays.asList("a", null));
+
+        assertFalse(validator.validate("tags", List.of("a", "b")).valid());
+        assertFalse(validator.validate("tags", Set.of("a", "b")).valid());
+        assertTrue(validator.validate("tags", Arrays.asList("b", null, "a")).valid());
+        assertTrue(validator.validate("tags", new HashSet<>(Arrays.asList("a", null))).valid());
+        // past the probe limit the list is walked once with marks
+        List<String> large = new ArrayList<>(Collections.nCopies(40, "b"));
+        large.add("a");
+        assertFalse(validator.validate("tags", List.copyOf(large)).valid());
+        large.add(null);
+        assertTrue(validator.validate("tags", large).valid());
+
+        assertFalse(ListFieldValidator.<String>nonNull().containsAll(Arrays.asList("a", null)).validate("tags", List.of("a")).valid());
+        assertFalse(ListFieldValidator.<String>nonNull().containsAll(Arrays.asList("a", null)).validate("tags", List.of("a", "b")).valid());
+    }
+
+    public void testContainsAllMarksLargeLists() {
+        CollectionFieldValidator<Integer> validator = CollectionFieldValidator.<Integer>nonNull().containsAll(List.of(3, 5, 7));
+
+        // 3 distinct values times 30 elements is past the probe limit
+        assertTrue(validator.validate("ids", range(0, 30)).valid());
+        assertFalse(validator.validate("ids", range(4, 34)).valid());
+
+        // a repeated element is only counted once
+        List<Integer> repeats = new ArrayList<>(List.of(3, 3, 3, 5, 5, 5));
+        repeats.addAll(range(100, 130));
+        assertFalse(validator.validate("ids", repeats).valid());
+        repeats.add(7);
+        assertTrue(validator.validate("ids", repeats).valid());
+
+        assertTrue(validator.validate("ids", new LinkedList<>(range(0, 30))).valid());
+        assertFalse(validator.validate("ids", new LinkedList<>(range(4, 34))).valid());
+    }
+
+    public void testContainsAllOverManyWords() {
+        List<Integer> required = range(0, 200);
+        CollectionFieldValidator<Integer> validator = CollectionFieldValidator.<Integer>nonNull().containsAll(required);
+
+        List<Integer> shuffled = new ArrayList<>(range(0, 300));
+        Collections.shuffle(shuffled, new Random(42));
+        assertTrue(validator.validate("ids", shuffled).valid());
+
+        shuffled.remove(Integer.valueOf(137));
+        assertFalse(validator.validate("ids", shuffled).valid());
+
+        assertTrue(CollectionFieldValidator.<Integer>nonNull().containsAll(List.of()).validate("ids", List.of()).valid());
+    }
+
+    public void testAllUnique() {
+        CollectionFieldValidator<String> validator = CollectionFieldValidator.<String>nonNull().allUnique();
+
+        assertTrue(validator.validate("codes", List.of()).valid());
+        assertTrue(validator.validate("codes", List.of("a", "b", "c")).valid());
+        assertEquals(List.of("must not contain duplicates"), validator.validate("codes", List.of("a", "b", "a")).reasons());
+        assertFalse(validator.validate("codes", Arrays.asList("a", null, "b", null)).valid());
+        assertTrue(validator.validate("codes", Arrays.asList("a", null, "b")).valid());
+        assertTrue(validator.validate("codes", new LinkedHashSet<>(List.of("a", "b"))).valid());
+
+        // past the pairwise limit, and not random access
+        List<String> many = range(0, 100).stream().map(String::valueOf).collect(Collectors.toList());
+        assertTrue(validator.validate("codes", many).valid());
+        assertTrue(validator.validate("codes", new LinkedList<>(many)).valid());
+        many.add("42");
+        assertFalse(validator.validate("codes", many).valid());
+        assertFalse(validator.validate("codes", new LinkedList<>(many)).valid());
+        assertFalse(validator.validate("codes", new LinkedList<>(List.of("a", "a"))).valid());
+    }
+
+    public void testEachReportsFailingIndexes() {
+        CollectionFieldValidator<Integer> validator = CollectionFieldValidator.<Integer>nonNull()
+                .each(IntegerFieldValidator.nonNull().greaterThan(0).lowerThan(10));
+
+        assertTrue(validator.validate("quantities", List.of(1, 2, 9)).valid());
+
+        FieldResult result = validator.validate("quantities", Arrays.asList(1, 0, 5, 12, null));
+        assertFalse(result.valid());
+        assertEquals(List.of("[1] should be greater than 0", "[3] should be lower than 10", "[4] should not be null"), result.reasons());
+        for (Message message : result.messages()) {
+            assertEquals("collection.each", message.code());
+        }
+    }
+
+    public void testListMessages() {
+        ListFieldValidator<String> tags = ListFieldValidator.<String>nonNull().notContains("x").notEmpty();
+
+        FieldResult result = tags.validate("tags", List.of("x"));
+        assertEquals(List.of("must not contain x"), result.reasons());
+        assertEquals("list.notContains", result.messages().get(0).code());
+
+        result = tags.validate("tags", List.of());
+        assertEquals(List.of("must not be empty"), result.reasons());
+        assertEquals("list.notEmpty", result.messages().get(0).code());
+    }
+
+    public void testEachOnListUsesListCode() {
+        ListFieldValidator<Integer> validator = ListFieldValidator.<Integer>nonNull().each(IntegerFieldValidator.nonNull().greaterThan(0));
+
+        FieldResult result = validator.validate("quantities", List.of(5, -1));
+        assertEquals(List.of("[1] should be greater than 0"), result.reasons());
+        assertEquals("list.each", result.messages().get(0).code());
+    }
+
+    public void testSizeBounds() {
+        Collection<Integer> three = List.of(1, 2, 3);
+        assertTrue(CollectionFieldValidator.<Integer>nonNull().between(1, 3).validate("ids", three).valid());
+        assertEquals(List.of("must have less than 2 size"), CollectionFieldValidator.<Integer>nonNull().lessThan(2).validate("ids", three).reasons());
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.ListFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Counts the bytes allocated by the current thread while validating valid input. Any per-call
+ * allocation would show up as at least 16 bytes times the number of calls.
+ */
+public class FieldValidatorAllocationTest extends TestCase {
+
+    private static final int WARMUP = 50_000;
+    private static final int CALLS = 100_000;
+    // slack for one-off allocations of the measurement and of compilation while it runs, far below one object per call
+    private static final long TOLERANCE_BYTES = 64 * 1024;
+
+    private com.sun.management.ThreadMXBean threads;
+
+    public FieldValidatorAllocationTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(FieldValidatorAllocationTest.class);
+    }
+
+    @Override
+    protected void setUp() {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    public void testValidStringDoesNotAllocate() {
+        IValidation<String> validation = StringFieldValidator.nonNull().notEmpty().minLength(3).maxLength(64).contains("@");
+        assertAllocationFree(() -> validation.validate("email", "john.doe@example.com"));
+    }
+
+    public void testValidIntegerDoesNotAllocate() {
+        IValidation<Integer> validation = IntegerFieldValidator.nonNull().between(0, 150).notEquals(42);
+        Integer age = 35;
+        assertAllocationFree(() -> validation.validate("age", age));
+    }
+
+    public void testValidListDoesNotAllocate() {
+        IValidation<List<String>> validation = ListFieldValidator.<String>nonNull().notEmpty().between(1, 8).contains("read");
+        List<String> scopes = List.of("read", "write");
+        assertAllocationFree(() -> validation.validate("scopes", scopes));
+    }
+
+    public void testOptionalNullDoesNotAllocate() {
+        IValidation<String> validation = StringFieldValidator.optional().minLength(3);
+        assertAllocationFree(() -> validation.validate("nickname", null));
+    }
+
+    public void testValidResultIsShared() {
+        IValidation<String> validation = StringFieldValidator.nonNull().minLength(3);
+        assertSame(validation.validate("name", "Alice"), validation.validate("name", "Bob"));
+    }
+
+    public void testOptionalValueIsValidatedByFollowingRules() {
+        IValidation<String> validation = StringFieldValidator.optional().minLength(3);
+        assertTrue(validation.validate("nickname", "neo").valid());
+        assertEquals(List.of("should have at least 3 characters"), validation.validate("nickname", "n").reasons());
+    }
+
+    private void assertAllocationFree(Supplier<FieldResult> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertTrue(call.get().valid());
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        boolean allValid = true;
+        for (int i = 0; i < CALLS; i++) {
+            allValid &= call.get().valid();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allValid);
+        assertTrue("allocated " + allocated + " bytes for " + CALLS + " valid calls", allocated < TOLERANCE_BYTES);
+    }
+
+}
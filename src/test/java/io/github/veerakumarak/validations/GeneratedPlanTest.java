@@ -0,0 +1,43 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class GeneratedPlanTest extends TestCase {
+
+    public GeneratedPlanTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(GeneratedPlanTest.class);
+    }
+
+    public void testMatchesTheInterpreter() {
+        StringFieldValidator code = StringFieldValidator.optional().minLength(2).maxLength(5).notEquals("XX");
+        ValidationPlan<String> generated = code.compile(CompilationMode.GENERATED);
+        assertTrue(generated.isGenerated());
+        assertFalse(code.compile().isGenerated());
+
+        for (String value : Arrays.asList(null, "", "A", "AB", "XX", "ABCDE", "ABCDEF")) {
+            assertEquals(code.compile().validate("code", value), generated.validate("code", value));
+        }
+    }
+
+    public void testFollowsJumpTargetsAndSilentRules() {
+        IntegerFieldValidator quantity = IntegerFieldValidator.nonNull().greaterThan(0).lowerThan(100);
+        ValidationPlan<Integer> generated = quantity.compile(CompilationMode.GENERATED);
+
+        assertEquals(List.of("should not be null"), generated.validate("quantity", null).reasons());
+        assertTrue(generated.validate("quantity", 5).valid());
+        assertEquals(quantity.validate("quantity", 500), generated.validate("quantity", 500));
+        assertSame(generated, quantity.compile(CompilationMode.GENERATED));
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class LazyValidationTest extends TestCase {
+
+    public LazyValidationTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(LazyValidationTest.class);
+    }
+
+    private static Supplier<FieldResult> mustNotRun() {
+        return () -> {
+            throw new AssertionError("check ran after the result was known");
+        };
+    }
+
+    public void testAllValidLazyStopsAtTheFirstFailure() {
+        ValidationResult result = Validator.allValidLazy(
+                Validator.check("name", "Alice", StringFieldValidator.nonNull().minLength(3)),
+                Validator.check("age", 12, IntegerFieldValidator.nonNull().greaterThan(18)),
+                mustNotRun());
+
+        assertEquals(Map.of("age", List.of("should be greater than 18")), result.reasons());
+    }
+
+    public void testAllValidLazyRunsEveryCheckWhenValid() {
+        int[] runs = new int[1];
+        Supplier<FieldResult> counted = () -> {
+            runs[0]++;
+            return FieldResult.ok("field");
+        };
+
+        assertTrue(Validator.allValidLazy(counted, counted, counted).valid());
+        assertEquals(3, runs[0]);
+    }
+
+    public void testAllValidLazyStopsAfterMaxFailures() {
+        IntegerFieldValidator positive = IntegerFieldValidator.nonNull().greaterThan(0);
+        ValidationResult result = Validator.allValidLazy(2, List.of(
+                Validator.check("a", -1, positive),
+                Validator.check("b", 1, positive),
+                Validator.check("c", -1, positive),
+                mustNotRun()));
+
+        assertEquals(List.of("a", "c"), List.copyOf(result.reasons().keySet()));
+
+        try {
+            Validator.allValidLazy(0, List.of());
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testAnyValidLazyStopsAtTheFirstValidCheck() {
+        IntegerFieldValidator positive = IntegerFieldValidator.nonNull().greaterThan(0);
+
+        assertTrue(Validator.anyValidLazy(Validator.check("a", -1, positive), Validator.check("b", 1, positive), mustNotRun()).valid());
+
+        ValidationResult none = Validator.anyValidLazy(List.of(Validator.check("a", -1, positive), Validator.check("b", 0, positive)));
+        assertEquals(List.of("a", "b"), List.copyOf(none.reasons().keySet()));
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.LocalDateFieldValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateRangeValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateTimeRangeValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+public class LocalDateRangeValidatorTest extends TestCase {
+
+    private static final Clock NOW = Clock.fixed(Instant.parse("2024-03-15T10:00:00Z"), ZoneOffset.UTC);
+
+    public LocalDateRangeValidatorTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(LocalDateRangeValidatorTest.class);
+    }
+
+    public void testFieldValidatorKeepsEveryBound() {
+        LocalDateFieldValidator march = LocalDateFieldValidator.nonNull()
+                .afterOrEqual(LocalDate.of(2024, 3, 1))
+                .before(LocalDate.of(2024, 4, 1));
+
+        assertTrue(march.validate("day", LocalDate.of(2024, 3, 31)).valid());
+        assertEquals(List.of("must be on or after 2024-03-01"), march.validate("day", LocalDate.of(2024, 2, 29)).reasons());
+        assertEquals(List.of("must be before 2024-04-01"), march.validate("day", LocalDate.of(2024, 4, 1)).reasons());
+        assertEquals(List.of("local date value must be non null"), march.validate("day", null).reasons());
+    }
+
+    public void testRelativeWindowCombinedWithFixedBound() {
+        LocalDateRangeValidator recent = LocalDateRangeValidator.nonNull()
+                .withinLast(30, NOW)
+                .afterOrEqual(LocalDate.of(2024, 3, 1));
+
+        assertTrue(recent.validate("day", LocalDate.of(2024, 3, 15)).valid());
+        assertTrue(recent.validate("day", LocalDate.of(2024, 3, 1)).valid());
+        assertEquals(List.of("must be between 2024-03-01 and 2024-03-15"), recent.validate("day", LocalDate.of(2024, 2, 20)).reasons());
+        assertFalse(recent.validate("day", LocalDate.of(2024, 3, 16)).valid());
+        assertTrue(LocalDateRangeValidator.optional().notInFuture(NOW).validate("day", null).valid());
+
+        // today is already the 16th in Tokyo
+        Clock tokyo = Clock.fixed(Instant.parse("2024-03-15T20:00:00Z"), ZoneId.of("Asia/Tokyo"));
+        assertTrue(LocalDateRangeValidator.nonNull().notInFuture(tokyo).validate("day", LocalDate.of(2024, 3, 16)).valid());
+    }
+
+    public void testDateTimeWindow() {
+        LocalDateTimeRangeValidator ingest = LocalDateTimeRangeValidator.nonNull()
+                .notInFuture(Duration.ofMinutes(5), NOW)
+                .afterOrEqual(LocalDateTime.of(2024, 2, 14, 10, 0));
+
+        assertTrue(ingest.validate("ts", LocalDateTime.of(2024, 3, 15, 10, 4, 59)).valid());
+        assertTrue(ingest.validate("ts", LocalDateTime.of(2024, 2, 14, 10, 0)).valid());
+        assertEquals(List.of("must be between 2024-02-14T10:00 and 2024-03-15T10:05"),
+                ingest.validate("ts", LocalDateTime.of(2024, 3, 15, 10, 5, 0, 1)).reasons());
+        assertFalse(ingest.validate("ts", LocalDateTime.of(2024, 2, 14, 9, 59, 59, 999_999_999)).valid());
+        LocalDateTimeRangeValidator lastDay = LocalDateTimeRangeValidator.nonNull().withinLast(Duration.ofDays(1), NOW);
+        assertTrue(lastDay.validate("ts", LocalDateTime.of(2024, 3, 14, 10, 0)).valid());
+        assertEquals(List.of("must be between 2024-03-14T10:00 and 2024-03-15T10:00"), lastDay.validate("ts", LocalDateTime.of(2024, 3, 14, 9, 59)).reasons());
+
+        LocalDateTimeRangeValidator fixed = LocalDateTimeRangeValidator.nonNull()
+                .afterOrEqual(LocalDateTime.of(2024, 1, 1, 0, 0, 0, 500))
+                .beforeOrEqual(LocalDateTime.of(2024, 12, 31, 23, 59));
+        assertFalse(fixed.validate("ts", LocalDateTime.of(2024, 1, 1, 0, 0, 0, 499)).valid());
+        assertTrue(fixed.validate("ts", LocalDateTime.of(2024, 1, 1, 0, 0, 0, 500)).valid());
+    }
+
+    public void testBoundsPastTheRangeOfLocalDate() {
+        assertEquals(List.of("must be on or before " + LocalDate.MIN),
+                LocalDateRangeValidator.nonNull().before(LocalDate.MIN).validate("day", LocalDate.MIN).reasons());
+        assertEquals(List.of("must be on or after " + LocalDate.MAX),
+                LocalDateRangeValidator.nonNull().after(LocalDate.MAX).validate("day", LocalDate.MAX).reasons());
+        assertFalse(LocalDateRangeValidator.nonNull().after(LocalDate.MAX).before(LocalDate.MIN).validate("day", LocalDate.of(2024, 1, 1)).valid());
+        assertFalse(LocalDateRangeValidator.nonNull().withinNext(Integer.MAX_VALUE, NOW).validate("day", LocalDate.of(2024, 1, 1)).valid());
+
+        Clock far = Clock.fixed(LocalDateTime.MAX.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        // a day after the last representable date-time
+        assertEquals(List.of("must be between " + LocalDateTime.MAX + " and " + LocalDateTime.MAX),
+                LocalDateTimeRangeValidator.nonNull().withinNext(Duration.ofDays(1), far).validate("ts", LocalDateTime.of(2024, 1, 1, 0, 0)).reasons());
+    }
+
+    public void testRejectsNegativeWindows() {
+        try {
+            LocalDateRangeValidator.nonNull().withinLast(-1, NOW);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            LocalDateRangeValidator.nonNull().withinNext(-1, NOW);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            LocalDateTimeRangeValidator.nonNull().withinLast(Duration.ofSeconds(-1), NOW);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        assertTrue(LocalDateRangeValidator.nonNull().withinLast(0, NOW).validate("day", LocalDate.of(2024, 3, 15)).valid());
+    }
+
+}
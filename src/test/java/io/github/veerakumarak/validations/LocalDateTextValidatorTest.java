@@ -0,0 +1,239 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.LocalDateFieldValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateTextValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateTimeTextValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LocalDateTextValidatorTest extends TestCase {
+
+    private static final int[] YEARS = {0, 1, 4, 100, 400, 1900, 1970, 2000, 2023, 2024, 2100, 9999};
+
+    public LocalDateTextValidatorTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(LocalDateTextValidatorTest.class);
+    }
+
+    private static LocalDate date(int year, int month, int day) {
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime dateTime(String text) {
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // the text in the middle of a larger buffer, read from position to limit
+    private static ByteBuffer bytes(String text, boolean direct) {
+        byte[] utf8 = ("xx" + text + "yy").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(utf8.length) : ByteBuffer.allocate(utf8.length);
+        buffer.put(utf8).position(2).limit(utf8.length - 2);
+        return buffer;
+    }
+
+    public void testDatesMatchTheCalendar() {
+        LocalDateTextValidator<CharSequence> text = LocalDateTextValidator.nonNull();
+        LocalDateTextValidator<ByteBuffer> bytes = LocalDateTextValidator.nonNullBytes();
+        for (int year : YEARS) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    String value = String.format("%04d-%02d-%02d", year, month, day);
+                    LocalDate expected = date(year, month, day);
+                    assertEquals(value, expected != null, text.validate("day", value).valid());
+
+                    ByteBuffer buffer = bytes(value, (day & 1) == 0);
+                    assertEquals(value, expected != null, bytes.validate("day", buffer).valid());
+                    assertEquals(2, buffer.position());
+                    assertEquals(value.length() + 2, buffer.limit());
+
+                    if (expected != null) {
+                        assertTrue(value, LocalDateTextValidator.nonNull().equal(expected).validate("day", value).valid());
+                        assertTrue(value, LocalDateTextValidator.nonNullBytes().equal(expected).validate("day", buffer).valid());
+                    }
+                }
+            }
+        }
+    }
+
+    public void testRejectsMalformedDates() {
+        LocalDateTextValidator<CharSequence> validator = LocalDateTextValidator.nonNull();
+        for (String value : List.of("", "2024-1-01", "2024-01-1", "2024/01/01", "20240101", "2024-01-01 ", "+2024-01-01",
+                "-024-01-01", "2024-0a-01", "2024-01-01T00:00", "\uff12\uff10\uff12\uff14-01-01")) {
+            assertEquals(value, List.of("must follow yyyy-MM-dd format"), validator.validate("day", value).reasons());
+        }
+        assertEquals(List.of("local date value must be non null"), validator.validate("day", null).reasons());
+        assertTrue(LocalDateTextValidator.optional().validate("day", null).valid());
+        assertFalse(LocalDateTextValidator.optional().validate("day", "2023-02-29").valid());
+    }
+
+    public void testDateBounds() {
+        LocalDateTextValidator<CharSequence> march = LocalDateTextValidator.nonNull()
+                .afterOrEqual(LocalDate.of(2024, 3, 1))
+                .before(LocalDate.of(2024, 4, 1));
+
+        assertTrue(march.validate("day", "2024-03-01").valid());
+        assertTrue(march.validate("day", "2024-03-31").valid());
+        assertEquals(List.of("must be on or after 2024-03-01"), march.validate("day", "2024-02-29").reasons());
+        assertEquals(List.of("must be before 2024-04-01"), march.validate("day", "2024-04-01").reasons());
+
+        LocalDateTextValidator<ByteBuffer> leap = LocalDateTextValidator.nonNullBytes().between(LocalDate.of(2024, 2, 28), LocalDate.of(2024, 2, 29));
+        assertTrue(leap.validate("day", bytes("2024-02-29", true)).valid());
+        assertEquals(List.of("must be between 2024-02-28 and 2024-02-29"), leap.validate("day", bytes("2024-03-01", false)).reasons());
+        assertTrue(LocalDateTextValidator.nonNull().after(LocalDate.of(-1, 12, 31)).validate("day", "0000-01-01").valid());
+    }
+
+    public void testDateTimesOfEveryLength() {
+        LocalDateTimeTextValidator<CharSequence> text = LocalDateTimeTextValidator.nonNull();
+        LocalDateTimeTextValidator<ByteBuffer> bytes = LocalDateTimeTextValidator.nonNullBytes();
+        String fraction = "123456789";
+        for (String date : List.of("0000-01-01", "2024-02-29", "2023-02-29", "1999-12-31", "9999-12-31")) {
+            for (String time : List.of("00:00", "23:59", "24:00", "12:60", "1a:00")) {
+                List<String> values = new ArrayList<>(List.of(date + "T" + time, date + "T" + time + ":59",
+                        date + "T" + time + ":60", date + "T" + time + ":07.", date + " " + time, date + "T" + time + "-07"));
+                for (int digits = 1; digits <= 10; digits++) {
+                    values.add(date + "T" + time + ":07." + fraction.substring(0, Math.min(digits, 9)) + (digits > 9 ? "0" : ""));
+                }
+                for (String value : values) {
+                    LocalDateTime expected = dateTime(value);
+                    assertEquals(value, expected != null, text.validate("at", value).valid());
+                    ByteBuffer buffer = bytes(value, value.length() % 2 == 0);
+                    assertEquals(value, expected != null, bytes.validate("at", buffer).valid());
+                    assertEquals(2, buffer.position());
+
+                    if (expected != null) {
+                        assertTrue(value, LocalDateTimeTextValidator.nonNull().equal(expected).validate("at", value).valid());
+                        assertTrue(value, LocalDateTimeTextValidator.nonNullBytes().equal(expected).validate("at", buffer).valid());
+                        assertFalse(value, LocalDateTimeTextValidator.nonNull().notEqual(expected).validate("at", value).valid());
+                    }
+                }
+            }
+        }
+        assertEquals(List.of("must follow yyyy-MM-ddTHH:mm:ss format"), text.validate("at", "2024-02-29T12").reasons());
+        assertEquals(List.of("local date time value must be non null"), text.validate("at", null).reasons());
+        assertTrue(LocalDateTimeTextValidator.optionalBytes().validate("at", null).valid());
+    }
+
+    public void testDateTimeBoundsCompareFractions() {
+        LocalDateTime noon = LocalDateTime.of(2024, 3, 15, 12, 0, 0, 500_000_000);
+        LocalDateTimeTextValidator<CharSequence> afterNoon = LocalDateTimeTextValidator.nonNull().after(noon);
+
+        assertTrue(afterNoon.validate("at", "2024-03-15T12:00:00.5000001").valid());
+        assertTrue(afterNoon.validate("at", "2024-03-15T12:00:01").valid());
+        assertFalse(afterNoon.validate("at", "2024-03-15T12:00:00.5").valid());
+        assertEquals(List.of("must be after 2024-03-15T12:00:00.500"), afterNoon.validate("at", "2024-03-15T12:00").reasons());
+
+        LocalDateTimeTextValidator<ByteBuffer> window = LocalDateTimeTextValidator.nonNullBytes()
+                .afterOrEqual(noon).beforeOrEqual(noon.plusHours(1));
+        assertTrue(window.validate("at", bytes("2024-03-15T12:00:00.500", true)).valid());
+        assertTrue(window.validate("at", bytes("2024-03-15T13:00:00.500", false)).valid());
+        assertEquals(List.of("must be on or before 2024-03-15T13:00:00.500"), window.validate("at", bytes("2024-03-15T13:00:00.50001", true)).reasons());
+        assertTrue(LocalDateTimeTextValidator.nonNull().before(noon).validate("at", "2024-03-15T12:00:00.499999999").valid());
+    }
+
+    // counts how often a scan starts, each one asks for the length first
+    private static final class CountedText implements CharSequence {
+
+        private final String text;
+        int scans;
+
+        CountedText(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            scans++;
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+
+    }
+
+    public void testScansTheTextOncePerValidation() {
+        LocalDateTextValidator<CharSequence> march = LocalDateTextValidator.nonNull()
+                .after(LocalDate.of(2024, 2, 29)).before(LocalDate.of(2024, 4, 1)).notEqual(LocalDate.of(2024, 3, 10));
+        CountedText day = new CountedText("2024-03-15");
+        assertTrue(march.validate("day", day).valid());
+        assertEquals(1, day.scans);
+
+        LocalDateTimeTextValidator<CharSequence> noon = LocalDateTimeTextValidator.nonNull()
+                .afterOrEqual(LocalDateTime.of(2024, 3, 15, 12, 0)).before(LocalDateTime.of(2024, 3, 15, 13, 0));
+        CountedText at = new CountedText("2024-03-15T12:30:00");
+        assertTrue(noon.validate("at", at).valid());
+        assertEquals(1, at.scans);
+        // seconds equal to a bound, the fraction is read once more
+        CountedText exact = new CountedText("2024-03-15T12:00:00.000");
+        assertTrue(noon.validate("at", exact).valid());
+        assertEquals(2, exact.scans);
+    }
+
+    public void testReportsEveryFailedComparison() {
+        LocalDateTextValidator<CharSequence> impossible = LocalDateTextValidator.nonNull()
+                .after(LocalDate.of(2024, 4, 1)).before(LocalDate.of(2024, 3, 1)).notEqual(LocalDate.of(2024, 3, 15));
+        FieldResult result = impossible.validate("day", "2024-03-15");
+        assertEquals(List.of("must be after 2024-04-01", "must be before 2024-03-01", "must be not equal 2024-03-15"), result.reasons());
+        assertEquals(List.of("localDateText.after", "localDateText.before", "localDateText.notEqual"),
+                result.messages().stream().map(Message::code).toList());
+        assertEquals(List.of("must follow yyyy-MM-dd format"), impossible.validate("day", "2024-3-15").reasons());
+        assertTrue(LocalDateTextValidator.optional().after(LocalDate.of(2024, 4, 1)).validate("day", null).valid());
+
+        LocalDateTimeTextValidator<CharSequence> window = LocalDateTimeTextValidator.nonNull()
+                .after(LocalDateTime.of(2024, 3, 15, 13, 0)).before(LocalDateTime.of(2024, 3, 15, 12, 0));
+        assertEquals(List.of("must be after 2024-03-15T13:00", "must be before 2024-03-15T12:00"),
+                window.validate("at", "2024-03-15T12:30").reasons());
+    }
+
+    public void testValidFormatAcceptsWhatTheYearOfEraPatternAccepts() {
+        DateTimeFormatter pattern = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDateFieldValidator validator = LocalDateFieldValidator.validFormat();
+        for (LocalDate date : List.of(LocalDate.MIN, LocalDate.of(-1, 12, 31), LocalDate.of(0, 1, 1), LocalDate.of(1, 1, 1),
+                LocalDate.of(2024, 2, 29), LocalDate.of(9999, 12, 31), LocalDate.of(10000, 1, 1), LocalDate.MAX)) {
+            boolean parses;
+            try {
+                LocalDate.parse(date.toString(), pattern);
+                parses = true;
+            } catch (DateTimeParseException e) {
+                parses = false;
+            }
+            assertEquals(date.toString(), parses, validator.validate("day", date).valid());
+        }
+        assertEquals(List.of("must follow yyyy-MM-dd format"), validator.validate("day", LocalDate.of(0, 6, 1)).reasons());
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.List;
+import java.util.Objects;
+
+public class MessageTest extends TestCase {
+
+    public MessageTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(MessageTest.class);
+    }
+
+    // counts how often the message text is built from it
+    private static final class Counted {
+
+        int rendered;
+
+        @Override
+        public String toString() {
+            rendered++;
+            return "counted";
+        }
+
+    }
+
+    public void testCodesOfHelperRules() {
+        FieldResult result = StringFieldValidator.nonNull().minLength(3).contains("@").validate("email", "a");
+
+        assertEquals(List.of("string.minLength", "string.contains"), result.messages().stream().map(Message::code).toList());
+        assertEquals(List.of(3), result.messages().get(0).args());
+        assertEquals("should have at least %s characters", result.messages().get(0).template());
+        assertEquals("integer.nonNull", IntegerFieldValidator.nonNull().validate("age", null).messages().get(0).code());
+    }
+
+    public void testRendersOnlyWhenReadAndOnce() {
+        Counted argument = new Counted();
+        FieldValidator<String> validator = new FieldValidator<>(Objects::isNull, Terminate.NONE, ErrorOn.FAILURE,
+                Message.of("custom.isNull", "must be null, not %s", argument)) {
+        };
+
+        FieldResult result = validator.validate("field", "value");
+        assertFalse(result.valid());
+        assertEquals(0, argument.rendered);
+
+        assertEquals("must be null, not counted", result.reasons().get(0));
+        assertEquals("must be null, not counted", result.reasons().get(0));
+        assertEquals("must be null, not counted", result.messages().get(0).render());
+        assertEquals(1, argument.rendered);
+    }
+
+    public void testPlainTextHasNoCode() {
+        Message text = Message.text("must be set");
+        assertNull(text.code());
+        assertEquals("must be set", text.render());
+        assertEquals(List.of(), text.args());
+        assertEquals(text, FieldResult.fail("field", "must be set").messages().get(0));
+    }
+
+    public void testNullTextMessagesAreAccepted() {
+        FieldValidator<String> silent = new FieldValidator<>(Objects::nonNull, Terminate.FAILURE, ErrorOn.NONE, (String) null) {
+        };
+        FieldValidator<String> chained = new FieldValidator<>(silent, s -> s.length() > 3, Terminate.NONE, ErrorOn.FAILURE, (String) null) {
+        };
+
+        assertEquals(List.of(), silent.validate("field", null).reasons());
+        assertTrue(chained.validate("field", "long enough").valid());
+        assertEquals(List.of(""), chained.validate("field", "abc").reasons());
+    }
+
+}
@@ -0,0 +1,64 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.DoubleValidator;
+import io.github.veerakumarak.validations.helpers.IntValidator;
+import io.github.veerakumarak.validations.helpers.LongValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.List;
+
+public class PrimitiveValidatorTest extends TestCase {
+
+    public PrimitiveValidatorTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(PrimitiveValidatorTest.class);
+    }
+
+    public void testReportsFailuresInRuleOrder() {
+        IntValidator age = IntValidator.nonNull().between(0, 150).notEquals(42);
+
+        assertTrue(age.validate("age", 35).valid());
+        assertEquals(List.of("should be greater than 0", "should not be equal to -1"),
+                IntValidator.nonNull().greaterThan(0).lowerThan(10).notEquals(-1).validate("age", -1).reasons());
+        assertEquals(List.of("should not be equal to 42"), age.validate("age", 42).reasons());
+        assertEquals(List.of("should be lower than 150"), age.validate("age", Integer.valueOf(150)).reasons());
+        assertEquals(List.of("should not be null"), age.validate("age", (Integer) null).reasons());
+        assertTrue(IntValidator.optional().greaterThan(0).validate("age", (Integer) null).valid());
+
+        assertEquals(List.of("should be greater than 0"), LongValidator.nonNull().greaterThan(0L).validate("id", 0L).reasons());
+        assertEquals(List.of("should be lower than 1.0"), DoubleValidator.nonNull().between(0d, 1d).validate("ratio", 1d).reasons());
+        assertEquals("double.lowerThan", DoubleValidator.nonNull().lowerThan(1d).validate("ratio", 2d).messages().get(0).code());
+    }
+
+    public void testLongChainsKeepEveryRule() {
+        IntValidator chain = IntValidator.nonNull();
+        for (int i = 0; i < 1000; i++) {
+            chain = chain.notEquals(i);
+        }
+        assertTrue(chain.validate("n", 1000).valid());
+        assertEquals(List.of("should not be equal to 999"), chain.validate("n", 999).reasons());
+
+        // branches built from one chain do not see each other's rules
+        LongValidator positive = LongValidator.nonNull().greaterThan(0L);
+        assertTrue(positive.validate("id", 5L).valid());
+        LongValidator small = positive.lowerThan(3L);
+        LongValidator even = positive.satisfies(v -> v % 2 == 0, "should be even");
+        assertEquals(List.of("should be lower than 3"), small.validate("id", 5L).reasons());
+        assertEquals(List.of("should be even"), even.validate("id", 5L).reasons());
+        assertTrue(positive.validate("id", 5L).valid());
+    }
+
+    public void testNullTextMessagesAreAccepted() {
+        IntValidator odd = IntValidator.nonNull().satisfies(v -> v % 2 != 0, (String) null);
+
+        assertTrue(odd.validate("n", 3).valid());
+        assertEquals(List.of(""), odd.validate("n", 4).reasons());
+        assertEquals(List.of(""), DoubleValidator.nonNull().satisfies(Double::isFinite, (String) null).validate("x", Double.NaN).reasons());
+    }
+
+}
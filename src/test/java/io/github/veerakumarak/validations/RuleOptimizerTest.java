@@ -0,0 +1,115 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.LocalDateFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RuleOptimizerTest extends TestCase {
+
+    private static final List<String> TEXTS = Arrays.asList(null, "", "a", "ab", "abc", "a-b", "abcd", "abcde", "abcdef", "ABC", "----------");
+
+    public RuleOptimizerTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(RuleOptimizerTest.class);
+    }
+
+    public void testStringChainsMatchTheInterpreter() {
+        List<StringFieldValidator> chains = List.of(
+                StringFieldValidator.nonNull().minLength(1).minLength(3).maxLength(5).maxLength(8),
+                StringFieldValidator.optional().matchesRegex("[a-z]+").maxLength(4).notEmpty(),
+                StringFieldValidator.nonNull().notEquals("abc").lengthBetween(2, 4).notEquals("abcdef").notEquals("abc"),
+                StringFieldValidator.nonNull().equals("abc").notEquals("ab").maxLength(3),
+                StringFieldValidator.optional().isEmpty().notEmpty(),
+                StringFieldValidator.nonNull().contains("-").minLength(3).equals("a-b"),
+                StringFieldValidator.nonNull().equals("a").notEquals("a"));
+        for (StringFieldValidator chain : chains) {
+            assertEquivalent(chain, TEXTS);
+        }
+    }
+
+    public void testIntegerChainsMatchTheInterpreter() {
+        List<Integer> numbers = new ArrayList<>(Arrays.asList(null, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        for (int i = -3; i <= 15; i++) {
+            numbers.add(i);
+        }
+        List<IntegerFieldValidator> chains = List.of(
+                IntegerFieldValidator.nonNull().greaterThan(5).greaterThan(10),
+                IntegerFieldValidator.optional().between(0, 10).notEquals(5).notEquals(20).lowerThan(8),
+                IntegerFieldValidator.nonNull().equals(7).between(0, 10).notEquals(3),
+                IntegerFieldValidator.nonNull().greaterThan(4).lowerThan(6).notEquals(5),
+                IntegerFieldValidator.nonNull().greaterThan(Integer.MAX_VALUE),
+                IntegerFieldValidator.optional().equals(3).equals(4));
+        for (IntegerFieldValidator chain : chains) {
+            assertEquivalent(chain, numbers);
+        }
+    }
+
+    public void testReportsContradictions() {
+        assertEquals(List.of("no value passes all of [string.equals, string.notEquals]"),
+                StringFieldValidator.nonNull().equals("a").notEquals("a").compile(CompilationMode.OPTIMIZED).contradictions());
+        assertEquals(1, IntegerFieldValidator.nonNull().greaterThan(10).lowerThan(5).compile(CompilationMode.OPTIMIZED).contradictions().size());
+        assertEquals(List.of(), IntegerFieldValidator.nonNull().greaterThan(5).greaterThan(10).compile(CompilationMode.OPTIMIZED).contradictions());
+        assertEquals(List.of(), IntegerFieldValidator.nonNull().greaterThan(10).lowerThan(5).compile().contradictions());
+    }
+
+    public void testCheapRulesRunFirst() {
+        AtomicInteger expensive = new AtomicInteger();
+        FieldValidator<String> expensiveFirst = new FieldValidator<>(StringFieldValidator.nonNull(),
+                Constraint.of(Constraint.EXPENSIVE, s -> expensive.incrementAndGet() > 0), Terminate.NONE, ErrorOn.FAILURE, "expensive") {
+        };
+        FieldValidator<String> chain = new FieldValidator<>(expensiveFirst,
+                Constraint.range("string.length", String::length, Long.MIN_VALUE, 4), Terminate.NONE, ErrorOn.FAILURE, "too long") {
+        };
+        ValidationPlan<String> plan = chain.compile(CompilationMode.OPTIMIZED);
+
+        assertFalse(plan.isValid("too long"));
+        assertEquals(0, expensive.get());
+        assertTrue(plan.isValid("ok"));
+        assertEquals(1, expensive.get());
+        assertEquals(List.of("too long"), plan.validate("field", "too long").reasons());
+    }
+
+    public void testNullOperandsKeepTheirMeaning() {
+        StringFieldValidator notNullText = StringFieldValidator.nonNull().notEquals(null).maxLength(3);
+        StringFieldValidator nullText = StringFieldValidator.nonNull().equals(null);
+        assertTrue(notNullText.validate("field", "abc").valid());
+        assertEquals(List.of("should be equal to null"), nullText.validate("field", "abc").reasons());
+        assertEquivalent(notNullText, TEXTS);
+        assertEquivalent(nullText, TEXTS);
+        assertEquivalent(StringFieldValidator.nonNull().equals(null).equals("a").notEquals(null), TEXTS);
+
+        List<LocalDate> dates = Arrays.asList(null, LocalDate.of(2024, 2, 29), LocalDate.of(1970, 1, 1));
+        LocalDateFieldValidator notNullDate = LocalDateFieldValidator.nonNull().notEqual(null);
+        LocalDateFieldValidator nullDate = LocalDateFieldValidator.nonNull().equal(null);
+        assertTrue(notNullDate.validate("field", LocalDate.of(2024, 2, 29)).valid());
+        assertEquals(List.of("must be equal null"), nullDate.validate("field", LocalDate.of(2024, 2, 29)).reasons());
+        assertEquivalent(notNullDate, dates);
+        assertEquivalent(nullDate, dates);
+    }
+
+    private static <K> void assertEquivalent(FieldValidator<K> chain, List<K> values) {
+        ValidationPlan<K> interpreted = chain.compile();
+        for (CompilationMode mode : List.of(CompilationMode.OPTIMIZED, CompilationMode.GENERATED)) {
+            ValidationPlan<K> plan = chain.compile(mode);
+            for (K value : values) {
+                FieldResult expected = interpreted.validate("field", value);
+                assertEquals(mode + " " + value, expected, plan.validate("field", value));
+                assertEquals(mode + " " + value, expected.valid(), plan.isValid(value));
+                assertEquals(expected.valid(), interpreted.isValid(value));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+public class SchemaTest extends TestCase {
+
+    record Customer(String name, String email) {
+    }
+
+    record Item(String sku, Integer quantity) {
+    }
+
+    record Order(Customer customer, List<Item> items, List<String> tags) {
+    }
+
+    private static final Schema<Customer> CUSTOMER = Schema.forRecord(Customer.class)
+            .field("name", StringFieldValidator.nonNull().minLength(3))
+            .field("email", StringFieldValidator.nonNull().contains("@"))
+            .build();
+
+    private static final Schema<Item> ITEM = Schema.<Item>builder()
+            .field("sku", Item::sku, StringFieldValidator.nonNull().minLength(4))
+            .field("quantity", Item::quantity, IntegerFieldValidator.nonNull().greaterThan(0))
+            .build();
+
+    private static final Schema<Order> ORDER = Schema.<Order>builder()
+            .nested("customer", Order::customer, CUSTOMER)
+            .each("items", Order::items, ITEM)
+            .each("tags", Order::tags, StringFieldValidator.nonNull().notEmpty())
+            .build();
+
+    public SchemaTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(SchemaTest.class);
+    }
+
+    private static Order order(int failingItems) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            items.add(new Item(i < failingItems ? "x" : "SKU-" + i, 1));
+        }
+        return new Order(new Customer("Alice", "alice@example.com"), items, List.of("gift"));
+    }
+
+    public void testReportsFailuresInFieldOrder() {
+        Map<String, List<String>> reasons = ITEM.validate(new Item("x", 0)).reasons();
+        assertEquals(List.of("sku", "quantity"), new ArrayList<>(reasons.keySet()));
+        assertEquals(List.of("should have at least 4 characters"), reasons.get("sku"));
+        assertEquals(List.of("should be greater than 0"), reasons.get("quantity"));
+
+        assertTrue(ITEM.validate(new Item("SKU-1", 1)).valid());
+        assertEquals(List.of("quantity"), new ArrayList<>(ITEM.validate(new Item("SKU-1", null)).reasons().keySet()));
+    }
+
+    public void testMaxFailuresStopsEarly() {
+        Item item = new Item("x", 0);
+        assertEquals(List.of("sku"), new ArrayList<>(ITEM.validate(item, 1).reasons().keySet()));
+        assertEquals(ITEM.validate(item), ITEM.validate(item, 2));
+
+        try {
+            ITEM.validate(item, 0);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testRecordComponentsAreBoundByName() {
+        assertEquals(Map.of("email", List.of("should contain @")), CUSTOMER.validate(new Customer("Alice", "alice")).reasons());
+
+        try {
+            Schema.forRecord(Customer.class).field("phone", StringFieldValidator.nonNull());
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            Schema.<Customer>builder().field("name", StringFieldValidator.nonNull());
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    public void testParallelValidationMatchesSerial() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(new Item(i % 7 == 0 ? "x" : "SKU-" + i, 1));
+        }
+        BatchResult serial = ITEM.validateAll(items);
+        assertEquals(1000, serial.total());
+        assertEquals(143, serial.failed());
+        assertEquals(7L, serial.index(1));
+        assertEquals(ITEM.validate(items.get(7)), serial.failure(1));
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int chunkSize : new int[]{1, 7, 64, 1000, 5000}) {
+                assertSameFailures(serial, ITEM.validateAll(items, chunkSize), chunkSize);
+                assertSameFailures(serial, ITEM.validateAll(items, chunkSize, pool), chunkSize);
+                assertSameFailures(serial, ITEM.validateAll(items, chunkSize, executor), chunkSize);
+            }
+        } finally {
+            pool.shutdown();
+            executor.shutdown();
+        }
+        assertSameFailures(serial, ITEM.validateAll(items.stream()), 0);
+    }
+
+    public void testReportsPathsOfNestedFieldsAndElements() {
+        Order order = new Order(new Customer("Al", "alice.example.com"),
+                Arrays.asList(new Item("SKU-1", 1), new Item("x", 0), null, new Item("SKU-4", 2)),
+                List.of("gift", "", "rush"));
+
+        Map<String, List<String>> reasons = ORDER.validate(order).reasons();
+        assertEquals(List.of("customer.name", "customer.email", "items[1].sku", "items[1].quantity", "tags[1]"), new ArrayList<>(reasons.keySet()));
+        assertEquals(List.of("should have at least 3 characters"), reasons.get("customer.name"));
+        assertEquals(List.of("should have at least 4 characters"), reasons.get("items[1].sku"));
+        assertEquals(List.of("should be greater than 0"), reasons.get("items[1].quantity"));
+        assertEquals(List.of("should not be empty"), reasons.get("tags[1]"));
+
+        assertTrue(ORDER.validate(order(0)).valid());
+        assertTrue(ORDER.validate(new Order(null, null, null)).valid());
+    }
+
+    public void testIterablesWithoutRandomAccess() {
+        Order order = new Order(null, new LinkedList<>(List.of(new Item("SKU-1", 1), new Item("SKU-2", -1))), new LinkedList<>(List.of("", "a")));
+        assertEquals(List.of("items[1].quantity", "tags[0]"), new ArrayList<>(ORDER.validate(order).reasons().keySet()));
+    }
+
+    public void testMaxFailuresAcrossNestedFields() {
+        Order order = new Order(new Customer("Al", "alice@example.com"),
+                List.of(new Item("x", 0), new Item("y", 1), new Item("z", 1)), List.of(""));
+
+        assertEquals(List.of("customer.name"), new ArrayList<>(ORDER.validate(order, 1).reasons().keySet()));
+        assertEquals(List.of("customer.name", "items[0].sku"), new ArrayList<>(ORDER.validate(order, 2).reasons().keySet()));
+        assertEquals(List.of("customer.name", "items[0].sku", "items[0].quantity", "items[1].sku"),
+                new ArrayList<>(ORDER.validate(order, 4).reasons().keySet()));
+        assertEquals(ORDER.validate(order), ORDER.validate(order, 100));
+        assertEquals(6, ORDER.validate(order).reasons().size());
+    }
+
+    public void testParallelValidationOfNestedSchemas() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            orders.add(order(i % 7 == 0 ? i % 5 : 0));
+        }
+        BatchResult serial = ORDER.validateAll(orders);
+        // multiples of 7 fail, except multiples of 35
+        assertEquals(143 - 29, serial.failed());
+        assertEquals(ORDER.validate(orders.get(7)), serial.failure(0));
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertSameFailures(serial, ORDER.validateAll(orders, 7, pool), 7);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameFailures(BatchResult expected, BatchResult actual, int chunkSize) {
+        assertEquals("chunk " + chunkSize, expected.total(), actual.total());
+        assertEquals("chunk " + chunkSize, expected.failed(), actual.failed());
+        assertEquals("chunk " + chunkSize, expected.failures(), actual.failures());
+    }
+
+}
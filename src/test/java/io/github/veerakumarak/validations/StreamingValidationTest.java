@@ -0,0 +1,183 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class StreamingValidationTest extends TestCase {
+
+    record Line(Integer quantity) {
+    }
+
+    private static final Schema<Line> LINE = Schema.forRecord(Line.class)
+            .field("quantity", IntegerFieldValidator.nonNull().greaterThan(0))
+            .build();
+
+    public StreamingValidationTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(StreamingValidationTest.class);
+    }
+
+    // every third line, starting with the first, is invalid
+    private static Stream<Line> lines(int count, AtomicInteger consumed) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            consumed.incrementAndGet();
+            return new Line(i % 3 == 0 ? 0 : i);
+        });
+    }
+
+    public void testPolicies() {
+        AtomicInteger consumed = new AtomicInteger();
+
+        BatchResult all = LINE.validateAll(lines(10, consumed), FailurePolicy.all());
+        assertEquals(10, all.total());
+        assertEquals(4, all.failed());
+        assertEquals(List.of(0L, 3L, 6L, 9L), List.copyOf(all.failures().keySet()));
+        assertEquals(10, consumed.getAndSet(0));
+
+        BatchResult first = LINE.validateAll(lines(10, consumed), FailurePolicy.firstFailure());
+        assertEquals(1, first.total());
+        assertEquals(1, first.size());
+        assertEquals(1, consumed.getAndSet(0));
+
+        BatchResult firstTwo = LINE.validateAll(lines(10, consumed), FailurePolicy.firstN(2));
+        assertEquals(4, firstTwo.total());
+        assertEquals(2, firstTwo.failed());
+        assertEquals(List.of(0L, 3L), List.copyOf(firstTwo.failures().keySet()));
+        assertEquals(4, consumed.getAndSet(0));
+
+        BatchResult capped = LINE.validateAll(lines(10, consumed), FailurePolicy.keepFirst(2));
+        assertEquals(10, capped.total());
+        assertEquals(4, capped.failed());
+        assertEquals(2, capped.size());
+        assertEquals(3L, capped.index(1));
+        assertEquals(10, consumed.getAndSet(0));
+
+        BatchResult counted = LINE.validateAll(lines(10, consumed), FailurePolicy.countOnly());
+        assertEquals(4, counted.failed());
+        assertEquals(0, counted.size());
+        assertFalse(counted.isValid());
+        assertEquals(10, consumed.getAndSet(0));
+
+        assertTrue(LINE.validateAll(Stream.of(new Line(1)), FailurePolicy.firstFailure()).isValid());
+    }
+
+    public void testInvalidPolicies() {
+        try {
+            new FailurePolicy(-1, false);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new FailurePolicy(0, true);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testCollectFailuresOfFieldResults() {
+        IntegerFieldValidator positive = IntegerFieldValidator.nonNull().greaterThan(0);
+        Iterator<FieldResult> results = Stream.of(1, -1, 2, -2, -3)
+                .map(i -> positive.validate("quantity", i))
+                .iterator();
+
+        BatchResult failures = Validator.collectFailures(results, FailurePolicy.firstN(2));
+        assertEquals(4, failures.total());
+        assertEquals(Map.of("quantity", List.of("should be greater than 0")), failures.failure(1).reasons());
+        // the policy stopped before the last result was read
+        assertTrue(results.hasNext());
+
+        assertEquals(3, Validator.collectFailures(Stream.of(-1, -2, -3).map(i -> positive.validate("quantity", i)), FailurePolicy.keepFirst(1)).failed());
+    }
+
+    public void testCombinesTwoResultLists() {
+        List<FieldResult> first = List.of(FieldResult.fail("name", "should not be empty"), FieldResult.ok("email"));
+        List<FieldResult> second = List.of(FieldResult.fail("age", "should be greater than 0"));
+
+        ValidationResult all = Validator.allValid(first, second);
+        assertEquals(List.of("name", "age"), List.copyOf(all.reasons().keySet()));
+        assertTrue(Validator.anyValid(first, second).valid());
+        assertTrue(Validator.anyValid(second, first).valid());
+
+        ValidationResult none = Validator.anyValid(List.of(FieldResult.fail("name", "should not be empty")), second);
+        assertEquals(List.of("name", "age"), List.copyOf(none.reasons().keySet()));
+        assertEquals(Validator.anyValid(List.of(first.get(0), second.get(0))), none);
+    }
+
+    public void testSubscriberRequestsInBatchesAndCancelsWhenThePolicyStops() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        ValidatingSubscriber<Line> subscriber = LINE.subscriber(FailurePolicy.firstN(100));
+        subscriber.onSubscribe(subscription);
+
+        int published = subscription.publish(subscriber, 1000);
+        assertTrue(subscription.cancelled);
+        // 100 failures are lines 0 to 297
+        assertEquals(298, published);
+        assertTrue(subscription.requested >= published);
+        assertTrue(subscription.requested < 1000);
+        BatchResult result = subscriber.result().join();
+        assertEquals(298, result.total());
+        assertEquals(100, result.size());
+
+        RecordingSubscription second = new RecordingSubscription();
+        subscriber.onSubscribe(second);
+        assertTrue(second.cancelled);
+    }
+
+    public void testSubscriberCompletesWithThePublisher() {
+        RecordingSubscription subscription = new RecordingSubscription();
+        ValidatingSubscriber<Line> subscriber = LINE.subscriber(FailurePolicy.countOnly());
+        subscriber.onSubscribe(subscription);
+
+        assertEquals(600, subscription.publish(subscriber, 600));
+        assertFalse(subscription.cancelled);
+        assertFalse(subscriber.result().isDone());
+        subscriber.onComplete();
+        assertEquals(200, subscriber.result().join().failed());
+
+        ValidatingSubscriber<Line> failing = LINE.subscriber(FailurePolicy.all());
+        failing.onSubscribe(new RecordingSubscription());
+        failing.onError(new IllegalStateException("broken"));
+        assertTrue(failing.result().isCompletedExceptionally());
+    }
+
+    // a publisher driven by the test: signals onNext serially while there is demand and no cancellation
+    private static final class RecordingSubscription implements Flow.Subscription {
+
+        long requested;
+        boolean cancelled;
+
+        int publish(Flow.Subscriber<Line> subscriber, int count) {
+            int published = 0;
+            while (published < count && published < requested && !cancelled) {
+                subscriber.onNext(new Line(published % 3 == 0 ? 0 : published));
+                published++;
+            }
+            return published;
+        }
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.List;
+
+public class StringListRulesTest extends TestCase {
+
+    public StringListRulesTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(StringListRulesTest.class);
+    }
+
+    public void testOneOfMatchesWholeValuesOnly() {
+        StringFieldValidator currency = StringFieldValidator.nonNull().oneOf(List.of("EUR", "USD", "US", "GBP", "USD"));
+
+        assertTrue(currency.validate("currency", "USD").valid());
+        assertTrue(currency.validate("currency", "US").valid());
+        assertEquals(List.of("should be one of 4 allowed values"), currency.validate("currency", "U").reasons());
+        assertFalse(currency.validate("currency", "USDT").valid());
+        assertFalse(currency.validate("currency", "").valid());
+    }
+
+    public void testContainsNoneOfFindsOverlappingTerms() {
+        StringFieldValidator comment = StringFieldValidator.optional().containsNoneOf(List.of("he", "she", "his", "hers"));
+
+        assertTrue(comment.validate("comment", null).valid());
+        assertTrue(comment.validate("comment", "a quiet evening").valid());
+        assertFalse(comment.validate("comment", "ushers").valid());
+        // after "sh" the 'i' has no edge, so "his" is only found by falling back from "sh" to "h"
+        assertFalse(comment.validate("comment", "shis").valid());
+        assertFalse(comment.validate("comment", "this").valid());
+        assertEquals(List.of("should not contain any of 4 denied values"), comment.validate("comment", "ahis").reasons());
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import io.github.veerakumarak.validations.metrics.InMemoryValidationMetrics;
+import io.github.veerakumarak.validations.metrics.ValidationMetrics;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class ValidationMetricsTest extends TestCase {
+
+    public ValidationMetricsTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(ValidationMetricsTest.class);
+    }
+
+    public void testCountsPassesAndFailuresPerRule() {
+        IValidation<String> name = StringFieldValidator.nonNull().minLength(3);
+        InMemoryValidationMetrics metrics = new InMemoryValidationMetrics(1);
+        ValidationMetrics.install(metrics);
+        try {
+            name.validate("name", "Alice");
+            name.validate("name", "Al");
+            name.validate("name", null);
+        } finally {
+            ValidationMetrics.uninstall();
+        }
+        name.validate("name", "ignored while uninstalled");
+
+        Map<String, InMemoryValidationMetrics.RuleStats> byRule = new HashMap<>();
+        for (InMemoryValidationMetrics.RuleStats stats : metrics.snapshot()) {
+            assertEquals("name", stats.field());
+            byRule.put(stats.rule(), stats);
+        }
+        InMemoryValidationMetrics.RuleStats nonNull = byRule.get("string.nonNull");
+        assertEquals(2, nonNull.passed());
+        assertEquals(1, nonNull.failed());
+        InMemoryValidationMetrics.RuleStats minLength = byRule.get("string.minLength");
+        assertEquals(1, minLength.passed());
+        assertEquals(1, minLength.failed());
+        assertEquals(2, minLength.samples());
+    }
+
+    public void testCountsRulesOfNullFields() {
+        IValidation<String> name = StringFieldValidator.nonNull().minLength(3);
+        InMemoryValidationMetrics metrics = new InMemoryValidationMetrics(1);
+        ValidationMetrics.install(metrics);
+        try {
+            assertFalse(name.validate(null, "Al").valid());
+            assertTrue(name.validate(null, "Alice").valid());
+            assertTrue(name.validate("null", "Bob").valid());
+        } finally {
+            ValidationMetrics.uninstall();
+        }
+
+        long nullField = 0;
+        long namedNull = 0;
+        for (InMemoryValidationMetrics.RuleStats stats : metrics.snapshot()) {
+            if (stats.field() == null) {
+                nullField += stats.evaluations();
+            } else {
+                assertEquals("null", stats.field());
+                namedNull += stats.evaluations();
+            }
+        }
+        assertEquals(4, nullField);
+        assertEquals(2, namedNull);
+    }
+
+    public void testInstallRejectsNull() {
+        try {
+            ValidationMetrics.install(null);
+            fail();
+        } catch (NullPointerException expected) {
+        }
+        assertNull(ValidationMetrics.listener());
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.github.veerakumarak.validations;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ValidationResultTest extends TestCase {
+
+    public ValidationResultTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(ValidationResultTest.class);
+    }
+
+    public void testValidResultsAreShared() {
+        ValidationResult result = Validator.allValid(FieldResult.ok("name"), FieldResult.ok("age"));
+        assertTrue(result.valid());
+        assertSame(result, ValidationResult.of(List.of()));
+        assertSame(result, ValidationResult.of(Map.of()));
+        assertEquals(Map.of(), result.reasons());
+    }
+
+    public void testRepeatedFieldsAreMergedInOrder() {
+        ValidationResult result = Validator.allValid(
+                FieldResult.fail("name", "should not be empty"),
+                FieldResult.ok("age"),
+                FieldResult.fail("city", "should not be empty"),
+                FieldResult.fail("name", List.of("should have at least 3 characters", "should contain a"))
+        );
+
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        expected.put("name", List.of("should not be empty", "should have at least 3 characters", "should contain a"));
+        expected.put("city", List.of("should not be empty"));
+        assertFalse(result.valid());
+        assertEquals(expected, result.reasons());
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(result.reasons().keySet()));
+        assertEquals(ValidationResult.of(expected), result);
+    }
+
+    public void testManyFieldsUseTheIndex() {
+        ValidationResult.Builder builder = ValidationResult.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(FieldResult.fail("field" + (i % 20), "reason" + i));
+        }
+        ValidationResult result = builder.build();
+        assertEquals(20, result.reasons().size());
+        assertEquals(List.of("reason3", "reason23", "reason43", "reason63", "reason83"), result.reasons().get("field3"));
+    }
+
+    public void testGetMessage() {
+        ValidationResult result = Validator.allValid(
+                FieldResult.fail("firstName", List.of("should not be empty", "should not be null")),
+                FieldResult.fail("city", "should not be empty")
+        );
+        assertEquals("{\n  \"firstName\": \"should not be empty,should not be null\"\n  \"city\": \"should not be empty\"\n}", result.getMessage());
+        assertEquals("No failures detected.", Validator.allValid(List.of()).getMessage());
+    }
+
+    public void testJsonIsEscaped() throws IOException {
+        ValidationResult result = Validator.allValid(
+                FieldResult.fail("na\"me", List.of("must match regex ^[a-z]+\\d$", "tab\tnew\nline\u0001")),
+                FieldResult.fail("st\u00e4dte", "\u00fcn\u00efc\u00f6d\u00e9 \uD83D\uDE00 lone \uD800")
+        );
+        String expected = "{\"na\\\"me\":[\"must match regex ^[a-z]+\\\\d$\",\"tab\\tnew\\nline\\u0001\"],"
+                + "\"st\u00e4dte\":[\"\u00fcn\u00efc\u00f6d\u00e9 \uD83D\uDE00 lone \\ud800\"]}";
+        assertEquals(expected, result.toJson());
+
+        byte[] utf8 = expected.getBytes(StandardCharsets.UTF_8);
+        assertTrue(Arrays.equals(utf8, result.toJsonBytes()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.writeJson(out);
+        assertTrue(Arrays.equals(utf8, out.toByteArray()));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        result.writeJson(buffer);
+        byte[] written = new byte[buffer.flip().remaining()];
+        buffer.get(written);
+        assertTrue(Arrays.equals(utf8, written));
+
+        assertEquals("{}", Validator.allValid(List.of()).toJson());
+    }
+
+    public void testValidPathDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<FieldResult> results = List.of(FieldResult.ok("name"), FieldResult.ok("age"), FieldResult.ok("city"));
+        for (int i = 0; i < 20_000; i++) {
+            Validator.allValid(results).orThrow();
+        }
+
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int i = 0; i < 100_000; i++) {
+            Validator.allValid(results).orThrow();
+        }
+        long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+
+        assertTrue("allocated " + allocated + " bytes", allocated < 1024);
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.github.veerakumarak.validations;
+
+import io.github.veerakumarak.validations.helpers.IntegerFieldValidator;
+import io.github.veerakumarak.validations.helpers.RuleSetLoader;
+import io.github.veerakumarak.validations.helpers.StringFieldValidator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+public class ValidatorRegistryTest extends TestCase {
+
+    public ValidatorRegistryTest(String testName) {
+        super(testName);
+    }
+
+    public static Test suite() {
+        return new TestSuite(ValidatorRegistryTest.class);
+    }
+
+    public void testTenantFallsBackToDefaultAndSwapsAtomically() {
+        ValidatorRegistry registry = new ValidatorRegistry(RuleSet.builder()
+                .add("sku", StringFieldValidator.nonNull().maxLength(10))
+                .add("acme", "sku", StringFieldValidator.nonNull().maxLength(3))
+                .build());
+
+        IValidation<String> acme = registry.get("acme", "sku");
+        assertFalse(acme.validate("sku", "ABCD").valid());
+        assertTrue(registry.<String>get("globex", "sku").validate("sku", "ABCD").valid());
+        assertTrue(registry.get("sku") instanceof ValidationPlan);
+
+        RuleSet before = registry.snapshot();
+        registry.update(rules -> rules.toBuilder().removeTenant("acme").add("quantity", IntegerFieldValidator.nonNull()).build());
+        assertTrue(registry.<String>get("acme", "sku").validate("sku", "ABCD").valid());
+        assertNotNull(before.find("acme", "sku"));
+        assertNull(before.find("quantity"));
+        // a validator fetched before the swap keeps working
+        assertFalse(acme.validate("sku", "ABCD").valid());
+
+        try {
+            registry.get("missing");
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    public void testLoadsPropertiesWithTenantOverrides() throws IOException {
+        Path file = Files.createTempFile("validation", ".properties");
+        try {
+            Files.writeString(file, String.join("\n",
+                    "sku.type=string",
+                    "sku.maxLength=6",
+                    "sku.matchesRegex=[A-Z]+-\\\\d+",
+                    "sku.mode=optimized",
+                    "acme/sku.maxLength=4",
+                    "quantity.type=integer",
+                    "quantity.optional=true",
+                    "quantity.greaterThan=0"));
+            RuleSet rules = RuleSetLoader.load(file);
+
+            IValidation<String> sku = rules.find("sku");
+            assertTrue(sku.validate("sku", "AB-12").valid());
+            assertEquals(List.of("must match regex [A-Z]+-\\d+"), sku.validate("sku", "ab-12").reasons());
+            assertEquals(List.of("should not exceed 4 characters"), rules.<String>find("acme", "sku").validate("sku", "AB-12").reasons());
+            assertTrue(rules.<Integer>find("quantity").validate("quantity", null).valid());
+            assertFalse(rules.<Integer>find("quantity").validate("quantity", 0).valid());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    public void testRejectsUnknownRules() throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader("sku.type=string\nsku.maxLenght=5"));
+        try {
+            RuleSetLoader.load(properties);
+            fail();
+        } catch (IllegalArgumentException expected) {
+            assertEquals("Unknown string rules for sku: [maxLenght]", expected.getMessage());
+        }
+    }
+
+}